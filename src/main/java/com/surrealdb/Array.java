@@ -1,6 +1,10 @@
 package com.surrealdb;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
+import java.util.List;
+import java.util.PrimitiveIterator;
 
 /**
  * The Array class represents a native array structure and provides methods to
@@ -24,6 +28,22 @@ public class Array extends Native implements Iterable<Value> {
 
     private static native long synchronizedIterator(long ptr);
 
+    private static native long[] elements(long ptr);
+
+    private static native int columnType(long ptr, String field);
+
+    private static native void columnLongs(long ptr, String field, long[] out, boolean[] nulls);
+
+    private static native void columnDoubles(long ptr, String field, double[] out, boolean[] nulls);
+
+    private static native void columnStrings(long ptr, String field, String[] out, boolean[] nulls);
+
+    private static native long[] toLongArray(long ptr);
+
+    private static native double[] toDoubleArray(long ptr);
+
+    private static native String[] toStringArray(long ptr);
+
     @Override
     final native String toString(long ptr);
 
@@ -37,6 +57,14 @@ public class Array extends Native implements Iterable<Value> {
         return toPrettyString(getPtr());
     }
 
+    /**
+     * Returns the element at the given index, without copying it.
+     * The element shares the result tree of this array, which stays alive as long as the element does.
+     *
+     * @param idx the index of the element
+     * @return the element
+     * @see Value
+     */
     final public Value get(int idx) {
         return new Value(get(getPtr(), idx));
     }
@@ -57,6 +85,37 @@ public class Array extends Native implements Iterable<Value> {
         return new ValueObjectIterator<>(clazz, iterator());
     }
 
+    /**
+     * Returns the elements in a new list, fetched in a single native call.
+     *
+     * @return the elements of this array
+     */
+    final public List<Value> toList() {
+        final long[] ptrs = elements(getPtr());
+        final List<Value> values = new ArrayList<>(ptrs.length);
+        for (final long ptr : ptrs) {
+            values.add(new Value(ptr));
+        }
+        return values;
+    }
+
+    /**
+     * Returns the elements in a new list, fetched in a single native call, each converted to the given class.
+     *
+     * @param clazz the class of the elements
+     * @param <T>   the type of the elements
+     * @return the converted elements of this array
+     */
+    final public <T> List<T> toList(Class<T> clazz) {
+        final ValueClassConverter<T> converter = new ValueClassConverter<>(clazz);
+        final List<Value> values = toList();
+        final List<T> list = new ArrayList<>(values.size());
+        for (final Value value : values) {
+            list.add(converter.convert(value));
+        }
+        return list;
+    }
+
     final public Iterator<Value> synchronizedIterator() {
         return new SynchronizedValueIterator(synchronizedIterator(getPtr()));
     }
@@ -64,5 +123,140 @@ public class Array extends Native implements Iterable<Value> {
     final public <T> Iterator<T> synchronizedIterator(Class<T> clazz) {
         return new ValueObjectIterator<>(clazz, synchronizedIterator());
     }
-}
 
+    /**
+     * Copies the elements into a new array, in a single native call.
+     *
+     * @return the elements of this array
+     * @throws SurrealException if an element is not an integer
+     */
+    final public long[] toLongArray() {
+        return toLongArray(getPtr());
+    }
+
+    /**
+     * Copies the elements into a new array, in a single native call.
+     * Integers and decimals are converted to doubles.
+     *
+     * @return the elements of this array
+     * @throws SurrealException if an element is not a number
+     */
+    final public double[] toDoubleArray() {
+        return toDoubleArray(getPtr());
+    }
+
+    /**
+     * Copies the elements into a new array, in a single native call.
+     *
+     * @return the elements of this array
+     * @throws SurrealException if an element is not a string
+     */
+    final public String[] toStringArray() {
+        return toStringArray(getPtr());
+    }
+
+    /**
+     * Returns an iterator over the elements, copied at once by {@link #toLongArray()}.
+     *
+     * @return an iterator over the elements of this array
+     * @throws SurrealException if an element is not an integer
+     */
+    final public PrimitiveIterator.OfLong longIterator() {
+        return Arrays.stream(toLongArray()).iterator();
+    }
+
+    /**
+     * Returns an iterator over the elements, copied at once by {@link #toDoubleArray()}.
+     *
+     * @return an iterator over the elements of this array
+     * @throws SurrealException if an element is not a number
+     */
+    final public PrimitiveIterator.OfDouble doubleIterator() {
+        return Arrays.stream(toDoubleArray()).iterator();
+    }
+
+    /**
+     * Copies the given field of every row into the given array, in a single native call.
+     * <p>
+     * Each row must be an object. Rows where the field is missing, NONE or NULL are set to {@code 0}
+     * and flagged in the returned null mask. Any other value which is not an integer fails the whole call.
+     *
+     * @param field the name of the field
+     * @param out   the array receiving the values, at least as long as this array
+     * @return the null mask, true for each row without a value
+     */
+    final public boolean[] column(String field, long[] out) {
+        final boolean[] nulls = new boolean[checkColumnLength(out.length)];
+        columnLongs(getPtr(), field, out, nulls);
+        return nulls;
+    }
+
+    /**
+     * Copies the given field of every row into the given array, in a single native call.
+     * <p>
+     * Integers and decimals are converted to doubles. Rows where the field is missing, NONE or NULL are set to {@code 0}
+     * and flagged in the returned null mask. Any other value which is not a number fails the whole call.
+     *
+     * @param field the name of the field
+     * @param out   the array receiving the values, at least as long as this array
+     * @return the null mask, true for each row without a value
+     */
+    final public boolean[] column(String field, double[] out) {
+        final boolean[] nulls = new boolean[checkColumnLength(out.length)];
+        columnDoubles(getPtr(), field, out, nulls);
+        return nulls;
+    }
+
+    /**
+     * Copies the given field of every row into the given array, in a single native call.
+     * <p>
+     * Rows where the field is missing, NONE or NULL are set to {@code null}
+     * and flagged in the returned null mask. Any other value which is not a string fails the whole call.
+     *
+     * @param field the name of the field
+     * @param out   the array receiving the values, at least as long as this array
+     * @return the null mask, true for each row without a value
+     */
+    final public boolean[] column(String field, String[] out) {
+        final boolean[] nulls = new boolean[checkColumnLength(out.length)];
+        columnStrings(getPtr(), field, out, nulls);
+        return nulls;
+    }
+
+    /**
+     * Extracts the given field of every row into a column.
+     * <p>
+     * The type of the column is given by the values: longs if they are all integers,
+     * doubles if they are all numbers, or strings if they are all strings. A column without any value holds longs.
+     * Values are never converted to strings: a column mixing numbers and strings, or holding any other type, fails.
+     *
+     * @param field the name of the field
+     * @return the values of the field, with their null mask
+     * @throws SurrealException if the values mix numbers and strings, or are neither numbers nor strings
+     */
+    final public Column column(String field) {
+        final int len = len();
+        switch (columnType(getPtr(), field)) {
+            case 1: {
+                final long[] values = new long[len];
+                return new Column(values, column(field, values));
+            }
+            case 2: {
+                final double[] values = new double[len];
+                return new Column(values, column(field, values));
+            }
+            default: {
+                final String[] values = new String[len];
+                return new Column(values, column(field, values));
+            }
+        }
+    }
+
+    private int checkColumnLength(int length) {
+        final int len = len();
+        if (length < len) {
+            throw new IllegalArgumentException("The array holds " + len + " rows but the output has a length of " + length);
+        }
+        return len;
+    }
+}
@@ -0,0 +1,113 @@
+package com.surrealdb;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The outcome of a {@link BulkInserter} run.
+ */
+public final class BulkInsertReport {
+
+    /**
+     * A chunk of records which could not be inserted.
+     */
+    public static final class Failure {
+
+        private final long offset;
+
+        private final int count;
+
+        private final Throwable cause;
+
+        Failure(long offset, int count, Throwable cause) {
+            this.offset = offset;
+            this.count = count;
+            this.cause = cause;
+        }
+
+        /**
+         * @return the position of the first record of the chunk in the input
+         */
+        public long getOffset() {
+            return offset;
+        }
+
+        /**
+         * @return the number of records in the chunk
+         */
+        public int getCount() {
+            return count;
+        }
+
+        /**
+         * @return the reason of the failure
+         */
+        public Throwable getCause() {
+            return cause;
+        }
+
+        @Override
+        public String toString() {
+            return "Failure{offset=" + offset + ", count=" + count + ", cause=" + cause + '}';
+        }
+    }
+
+    private final long inserted;
+
+    private final Duration elapsed;
+
+    private final List<Failure> failures;
+
+    BulkInsertReport(long inserted, Duration elapsed, List<Failure> failures) {
+        this.inserted = inserted;
+        this.elapsed = elapsed;
+        this.failures = Collections.unmodifiableList(failures);
+    }
+
+    /**
+     * @return the number of inserted records
+     */
+    public long getInserted() {
+        return inserted;
+    }
+
+    /**
+     * @return the number of records which could not be inserted
+     */
+    public long getFailed() {
+        long failed = 0;
+        for (final Failure failure : failures) {
+            failed += failure.count;
+        }
+        return failed;
+    }
+
+    /**
+     * @return the failed chunks, in no particular order
+     */
+    public List<Failure> getFailures() {
+        return failures;
+    }
+
+    /**
+     * @return the total duration of the insertion
+     */
+    public Duration getElapsed() {
+        return elapsed;
+    }
+
+    /**
+     * @return the number of records inserted per second
+     */
+    public double getRowsPerSecond() {
+        final long nanos = elapsed.toNanos();
+        return nanos == 0 ? 0 : inserted * 1_000_000_000.0 / nanos;
+    }
+
+    @Override
+    public String toString() {
+        return "BulkInsertReport{inserted=" + inserted + ", failed=" + getFailed() + ", elapsed=" + elapsed +
+            ", rowsPerSecond=" + Math.round(getRowsPerSecond()) + '}';
+    }
+}
@@ -0,0 +1,228 @@
+package com.surrealdb;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Inserts a large number of records into a table, in chunks, with several chunks in flight on the native runtime.
+ * <p>
+ * The input is consumed lazily: only the chunks in flight are held in memory.
+ * When adaptive sizing is enabled (the default), the chunk size is doubled while chunks complete well within
+ * the target latency, and halved when they exceed it.
+ * <p>
+ * A failed chunk does not stop the insertion; it is recorded in the {@link BulkInsertReport}.
+ * <p>
+ * Example:
+ * <pre>{@code
+ * final BulkInsertReport report = surreal.<Person>bulkInserter("person")
+ *     .maxInFlight(8)
+ *     .insert(persons.stream());
+ * }</pre>
+ *
+ * @param <T> the type of the inserted contents
+ * @see Surreal#bulkInserter(String)
+ */
+public class BulkInserter<T> {
+
+    private static final int MIN_CHUNK_SIZE = 16;
+
+    private final Surreal surreal;
+
+    private final String sql;
+
+    private int chunkSize = 1000;
+
+    private int maxChunkSize = 50_000;
+
+    private int maxInFlight = 4;
+
+    private boolean adaptive = true;
+
+    private Duration targetLatency = Duration.ofMillis(500);
+
+    BulkInserter(Surreal surreal, String table) {
+        this.surreal = surreal;
+        this.sql = "INSERT INTO " + Ident.escape(Objects.requireNonNull(table, "table")) + " $vals RETURN NONE";
+    }
+
+    /**
+     * Sets the initial number of records per chunk. Defaults to 1000.
+     *
+     * @param chunkSize the number of records per chunk
+     * @return the current BulkInserter instance
+     */
+    public BulkInserter<T> chunkSize(int chunkSize) {
+        this.chunkSize = positive("chunkSize", chunkSize);
+        return this;
+    }
+
+    /**
+     * Sets the upper bound of the adaptive chunk size. Defaults to 50000.
+     *
+     * @param maxChunkSize the maximum number of records per chunk
+     * @return the current BulkInserter instance
+     */
+    public BulkInserter<T> maxChunkSize(int maxChunkSize) {
+        this.maxChunkSize = positive("maxChunkSize", maxChunkSize);
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of chunks being inserted at the same time. Defaults to 4.
+     *
+     * @param maxInFlight the maximum number of chunks in flight
+     * @return the current BulkInserter instance
+     */
+    public BulkInserter<T> maxInFlight(int maxInFlight) {
+        this.maxInFlight = positive("maxInFlight", maxInFlight);
+        return this;
+    }
+
+    /**
+     * Sets whether the chunk size adapts to the observed latency. Enabled by default.
+     *
+     * @param adaptive true to adapt the chunk size
+     * @return the current BulkInserter instance
+     */
+    public BulkInserter<T> adaptive(boolean adaptive) {
+        this.adaptive = adaptive;
+        return this;
+    }
+
+    /**
+     * Sets the latency the adaptive chunk size aims for. Defaults to 500 milliseconds.
+     *
+     * @param targetLatency the target duration of one chunk insertion
+     * @return the current BulkInserter instance
+     */
+    public BulkInserter<T> targetLatency(Duration targetLatency) {
+        if (targetLatency.isNegative() || targetLatency.isZero()) {
+            throw new IllegalArgumentException("targetLatency must be positive: " + targetLatency);
+        }
+        this.targetLatency = targetLatency;
+        return this;
+    }
+
+    /**
+     * Inserts every record of the stream, and waits for the insertion to complete.
+     *
+     * @param contents the contents of the records
+     * @return the report of the insertion
+     * @throws SurrealTimeoutException if the calling thread is interrupted
+     */
+    public BulkInsertReport insert(Stream<? extends T> contents) {
+        return insert(contents.iterator());
+    }
+
+    /**
+     * Inserts every record returned by the iterator, and waits for the insertion to complete.
+     *
+     * @param contents the contents of the records
+     * @return the report of the insertion
+     * @throws SurrealTimeoutException if the calling thread is interrupted
+     */
+    public BulkInsertReport insert(Iterator<? extends T> contents) {
+        final Run run = new Run(Math.min(chunkSize, maxChunkSize));
+        final long start = System.nanoTime();
+        long offset = 0;
+        try {
+            while (contents.hasNext()) {
+                final int size = run.chunkSize;
+                final List<T> chunk = new ArrayList<>(size);
+                while (chunk.size() < size && contents.hasNext()) {
+                    chunk.add(contents.next());
+                }
+                run.inFlight.acquire();
+                run.submit(offset, chunk);
+                offset += chunk.size();
+            }
+            // Wait for the chunks still in flight
+            run.inFlight.acquire(maxInFlight);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SurrealTimeoutException("The bulk insert was interrupted after " + offset + " records");
+        }
+        synchronized (run.failures) {
+            return new BulkInsertReport(run.inserted.get(), Duration.ofNanos(System.nanoTime() - start), new ArrayList<>(run.failures));
+        }
+    }
+
+    private static int positive(String name, int value) {
+        if (value <= 0) {
+            throw new IllegalArgumentException(name + " must be positive: " + value);
+        }
+        return value;
+    }
+
+    /**
+     * The state of one call to {@link #insert(Iterator)}.
+     */
+    private final class Run {
+
+        final Semaphore inFlight = new Semaphore(maxInFlight);
+
+        final AtomicLong inserted = new AtomicLong();
+
+        final List<BulkInsertReport.Failure> failures = new ArrayList<>();
+
+        volatile int chunkSize;
+
+        Run(int chunkSize) {
+            this.chunkSize = chunkSize;
+        }
+
+        void submit(long offset, List<T> chunk) {
+            final long start = System.nanoTime();
+            final Map<String, List<T>> params = Collections.singletonMap("vals", chunk);
+            try {
+                surreal.queryBindAsync(sql, params).whenComplete((response, error) -> {
+                    try {
+                        if (error == null) {
+                            // A failed statement is only reported when its result is taken
+                            response.take(0);
+                            inserted.addAndGet(chunk.size());
+                            adapt(chunk.size(), Duration.ofNanos(System.nanoTime() - start));
+                        } else {
+                            fail(offset, chunk.size(), error);
+                        }
+                    } catch (SurrealException e) {
+                        fail(offset, chunk.size(), e);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            } catch (RuntimeException e) {
+                // The chunk could not be converted or submitted
+                fail(offset, chunk.size(), e);
+                inFlight.release();
+            }
+        }
+
+        private void fail(long offset, int count, Throwable error) {
+            final Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+            synchronized (failures) {
+                failures.add(new BulkInsertReport.Failure(offset, count, cause));
+            }
+        }
+
+        private void adapt(int size, Duration latency) {
+            if (!adaptive || size < chunkSize) {
+                return;
+            }
+            if (latency.compareTo(targetLatency) > 0) {
+                chunkSize = Math.max(MIN_CHUNK_SIZE, size / 2);
+            } else if (latency.multipliedBy(2).compareTo(targetLatency) < 0) {
+                chunkSize = Math.min(maxChunkSize, size * 2);
+            }
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.surrealdb;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The reflective data needed to convert objects into instances of a class: its constructor,
+ * and a setter for each of its fields, keyed by name.
+ * <p>
+ * A mapper is built once per class and cached, so that converting many rows does not repeat the
+ * reflective lookups, and so that keys without a matching field are skipped with a map lookup.
+ */
+final class ClassMapper<T> {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(java.lang.Object.class);
+
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, java.lang.Object.class, java.lang.Object.class);
+
+    private static final ClassValue<ClassMapper<?>> CACHE = new ClassValue<ClassMapper<?>>() {
+        @Override
+        protected ClassMapper<?> computeValue(Class<?> type) {
+            return new ClassMapper<>(type);
+        }
+    };
+
+    private final Class<T> type;
+
+    // Null when the class has no public constructor without parameters, or when it cannot be accessed
+    private final MethodHandle constructor;
+
+    private final Map<String, FieldMapper> fields;
+
+    private ClassMapper(Class<T> type) {
+        this.type = type;
+        this.constructor = constructor(type);
+        // Fields of subclasses hide the fields of the same name in superclasses
+        final Map<String, FieldMapper> fields = new HashMap<>();
+        for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+            for (final Field field : c.getDeclaredFields()) {
+                // Static fields do not belong to the converted instance
+                if (!Modifier.isStatic(field.getModifiers()) && !fields.containsKey(field.getName())) {
+                    fields.put(field.getName(), new FieldMapper(field));
+                }
+            }
+        }
+        this.fields = fields;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> ClassMapper<T> of(Class<T> type) {
+        return (ClassMapper<T>) CACHE.get(type);
+    }
+
+    private static MethodHandle constructor(Class<?> type) {
+        final Constructor<?> constructor;
+        try {
+            constructor = type.getConstructor();
+        } catch (NoSuchMethodException | SecurityException e) {
+            return null;
+        }
+        setAccessible(constructor);
+        try {
+            return LOOKUP.unreflectConstructor(constructor).asType(CONSTRUCTOR_TYPE);
+        } catch (IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    // The access can be denied, such as with an InaccessibleObjectException, the member then keeps its own access
+    private static void setAccessible(AccessibleObject member) {
+        try {
+            member.setAccessible(true);
+        } catch (RuntimeException ignored) {
+        }
+    }
+
+    /**
+     * @return a new instance, created with the constructor without parameters
+     */
+    T newInstance() throws ReflectiveOperationException {
+        if (constructor == null) {
+            throw new NoSuchMethodException(type.getName() + ".<init>()");
+        }
+        final java.lang.Object instance;
+        try {
+            instance = (java.lang.Object) constructor.invokeExact();
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new InvocationTargetException(t);
+        }
+        return type.cast(instance);
+    }
+
+    /**
+     * @param name the name of the field
+     * @return the setter of the field, or null when the class has no such field
+     */
+    FieldMapper field(String name) {
+        return fields.get(name);
+    }
+
+    static final class FieldMapper {
+
+        final Field field;
+
+        final Class<?> type;
+
+        // The type arguments of a generic field, or null when they are not classes
+        final Class<?> elementType;
+        final Class<?> valueType;
+
+        private final MethodHandle setter;
+
+        private FieldMapper(Field field) {
+            this.field = field;
+            this.type = field.getType();
+            this.elementType = typeArgument(field, 0);
+            this.valueType = typeArgument(field, 1);
+            this.setter = setter(field);
+        }
+
+        private static MethodHandle setter(Field field) {
+            setAccessible(field);
+            try {
+                return LOOKUP.unreflectSetter(field).asType(SETTER_TYPE);
+            } catch (IllegalAccessException e) {
+                // Final or inaccessible fields have no setter handle, they are set through the field as before,
+                // which reports the error if this field is set
+                try {
+                    return LOOKUP.findVirtual(Field.class, "set", SETTER_TYPE).bindTo(field);
+                } catch (NoSuchMethodException | IllegalAccessException ex) {
+                    throw new SurrealException("Cannot access field: " + field, ex);
+                }
+            }
+        }
+
+        private static Class<?> typeArgument(Field field, int index) {
+            final Type generic = field.getGenericType();
+            if (generic instanceof ParameterizedType) {
+                final Type[] args = ((ParameterizedType) generic).getActualTypeArguments();
+                if (args.length > index && args[index] instanceof Class) {
+                    return (Class<?>) args[index];
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Sets the field of the target. Primitive fields take the matching wrapper.
+         */
+        void set(java.lang.Object target, java.lang.Object value) throws ReflectiveOperationException {
+            try {
+                setter.invokeExact(target, value);
+            } catch (RuntimeException | Error | ReflectiveOperationException e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new InvocationTargetException(t);
+            }
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.surrealdb;
+
+/**
+ * The values of one field across the rows of an array, held in a primitive array.
+ * <p>
+ * Rows where the field is missing, NONE or NULL are flagged in the null mask,
+ * and hold {@code 0} or {@code null} in the values.
+ *
+ * @see Array#column(String)
+ * @see Response#takeColumn(int, String)
+ */
+public final class Column {
+
+    private final java.lang.Object values;
+
+    private final boolean[] nulls;
+
+    Column(java.lang.Object values, boolean[] nulls) {
+        this.values = values;
+        this.nulls = nulls;
+    }
+
+    /**
+     * @return the number of rows
+     */
+    public int size() {
+        return nulls.length;
+    }
+
+    /**
+     * @param row the index of the row
+     * @return true if the row has no value for the field
+     */
+    public boolean isNull(int row) {
+        return nulls[row];
+    }
+
+    /**
+     * @return the null mask, true for each row without a value
+     */
+    public boolean[] getNulls() {
+        return nulls;
+    }
+
+    public boolean isLong() {
+        return values instanceof long[];
+    }
+
+    public long[] getLongs() {
+        if (values instanceof long[]) {
+            return (long[]) values;
+        }
+        throw new SurrealException("The column does not hold longs");
+    }
+
+    public boolean isDouble() {
+        return values instanceof double[];
+    }
+
+    public double[] getDoubles() {
+        if (values instanceof double[]) {
+            return (double[]) values;
+        }
+        throw new SurrealException("The column does not hold doubles");
+    }
+
+    public boolean isString() {
+        return values instanceof String[];
+    }
+
+    public String[] getStrings() {
+        if (values instanceof String[]) {
+            return (String[]) values;
+        }
+        throw new SurrealException("The column does not hold strings");
+    }
+}
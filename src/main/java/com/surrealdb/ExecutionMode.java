@@ -0,0 +1,28 @@
+package com.surrealdb;
+
+/**
+ * Controls how the blocking methods of {@link Surreal} wait for the native runtime.
+ *
+ * @see Surreal#executionMode(ExecutionMode)
+ */
+public enum ExecutionMode {
+
+    /**
+     * The calling thread runs the operation inside the native runtime until it completes.
+     * <p>
+     * This has the lowest overhead, but a virtual thread stays pinned to its carrier thread for the whole call.
+     */
+    BLOCKING,
+
+    /**
+     * The operation is submitted to the native runtime and the calling thread parks until it completes.
+     * <p>
+     * A parked virtual thread releases its carrier thread, so slow queries do not stall the scheduler.
+     */
+    PARKING,
+
+    /**
+     * Virtual threads park, and platform threads block.
+     */
+    AUTO
+}
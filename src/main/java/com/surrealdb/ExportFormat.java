@@ -0,0 +1,30 @@
+package com.surrealdb;
+
+/**
+ * The file formats supported by {@link Surreal#exportTable(String, java.nio.file.Path, ExportFormat)}.
+ */
+public enum ExportFormat {
+
+    /**
+     * Newline delimited JSON: one JSON object per record.
+     * The file can be imported with {@link ImportFormat#NDJSON}.
+     * <p>
+     * The format is lossy: the {@code id} field only holds the key of the record, without its table,
+     * and values without a JSON counterpart, such as record links, datetimes, durations, decimals or bytes,
+     * are written as strings or numbers and are not restored by an import.
+     * Use {@link #SURREALQL} to keep the SurrealQL types.
+     */
+    NDJSON(1),
+    /**
+     * SurrealQL {@code INSERT} statements, one per page of records.
+     * The file can be imported with {@link Surreal#importDatabase(java.nio.file.Path)}.
+     */
+    SURREALQL(2);
+
+    final int code;
+
+    ExportFormat(int code) {
+        this.code = code;
+    }
+
+}
@@ -0,0 +1,57 @@
+package com.surrealdb;
+
+import java.time.Duration;
+
+/**
+ * The outcome of {@link Surreal#exportTable(String, java.nio.file.Path, ExportFormat)}.
+ */
+public final class ExportReport {
+
+    private final long records;
+
+    private final long pages;
+
+    private final long bytes;
+
+    private final Duration elapsed;
+
+    ExportReport(long records, long pages, long bytes, Duration elapsed) {
+        this.records = records;
+        this.pages = pages;
+        this.bytes = bytes;
+        this.elapsed = elapsed;
+    }
+
+    /**
+     * @return the number of exported records
+     */
+    public long getRecords() {
+        return records;
+    }
+
+    /**
+     * @return the number of pages read from the database
+     */
+    public long getPages() {
+        return pages;
+    }
+
+    /**
+     * @return the number of bytes written to the file
+     */
+    public long getBytes() {
+        return bytes;
+    }
+
+    /**
+     * @return the total duration of the export
+     */
+    public Duration getElapsed() {
+        return elapsed;
+    }
+
+    @Override
+    public String toString() {
+        return "ExportReport{records=" + records + ", pages=" + pages + ", bytes=" + bytes + ", elapsed=" + elapsed + '}';
+    }
+}
@@ -0,0 +1,25 @@
+package com.surrealdb;
+
+import java.util.regex.Pattern;
+
+/**
+ * Writes identifiers, such as table or namespace names, into SurrealQL statements.
+ */
+final class Ident {
+
+    private static final Pattern PLAIN = Pattern.compile("[A-Za-z_][A-Za-z0-9_]*");
+
+    private Ident() {
+    }
+
+    static String escape(String ident) {
+        if (PLAIN.matcher(ident).matches()) {
+            return ident;
+        }
+        return quote(ident);
+    }
+
+    static String quote(String ident) {
+        return '`' + ident.replace("\\", "\\\\").replace("`", "\\`") + '`';
+    }
+}
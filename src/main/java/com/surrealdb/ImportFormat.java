@@ -0,0 +1,26 @@
+package com.surrealdb;
+
+/**
+ * The file formats supported by {@link Surreal#importFile(java.nio.file.Path, String, ImportFormat)}.
+ */
+public enum ImportFormat {
+
+    /**
+     * Newline delimited JSON: one JSON object per line.
+     * Blank lines are ignored.
+     */
+    NDJSON(1),
+    /**
+     * Comma separated values, as described by RFC 4180.
+     * The first row holds the field names. Unquoted values are read as numbers or booleans when they parse as such,
+     * quoted values are always strings, and empty values are left out of the record.
+     */
+    CSV(2);
+
+    final int code;
+
+    ImportFormat(int code) {
+        this.code = code;
+    }
+
+}
@@ -0,0 +1,66 @@
+package com.surrealdb;
+
+import java.time.Duration;
+
+/**
+ * The outcome of {@link Surreal#importFile(java.nio.file.Path, String, ImportFormat)}.
+ */
+public final class ImportReport {
+
+    private final long records;
+
+    private final long batches;
+
+    private final long bytes;
+
+    private final Duration elapsed;
+
+    ImportReport(long records, long batches, long bytes, Duration elapsed) {
+        this.records = records;
+        this.batches = batches;
+        this.bytes = bytes;
+        this.elapsed = elapsed;
+    }
+
+    /**
+     * @return the number of imported records
+     */
+    public long getRecords() {
+        return records;
+    }
+
+    /**
+     * @return the number of insert statements sent to the database
+     */
+    public long getBatches() {
+        return batches;
+    }
+
+    /**
+     * @return the number of bytes read from the file
+     */
+    public long getBytes() {
+        return bytes;
+    }
+
+    /**
+     * @return the total duration of the import
+     */
+    public Duration getElapsed() {
+        return elapsed;
+    }
+
+    /**
+     * @return the number of records imported per second
+     */
+    public double getRowsPerSecond() {
+        final long nanos = elapsed.toNanos();
+        return nanos == 0 ? 0 : records * 1_000_000_000.0 / nanos;
+    }
+
+    @Override
+    public String toString() {
+        return "ImportReport{records=" + records + ", batches=" + batches + ", bytes=" + bytes + ", elapsed=" + elapsed +
+            ", rowsPerSecond=" + Math.round(getRowsPerSecond()) + '}';
+    }
+}
@@ -0,0 +1,69 @@
+package com.surrealdb;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Receives the notifications of a live query from a runtime thread, and hands them over to the consumer on an executor.
+ * <p>
+ * Notifications are delivered one at a time, in the order they were received.
+ * An exception thrown by the consumer is passed to the uncaught exception handler and does not stop the subscription.
+ */
+final class LiveCallback<T> {
+
+    private final Executor executor;
+
+    private final Function<Value, T> mapper;
+
+    private final Consumer<Notification<T>> consumer;
+
+    private final Queue<Runnable> pending = new ConcurrentLinkedQueue<>();
+
+    private final AtomicBoolean draining = new AtomicBoolean();
+
+    LiveCallback(Executor executor, Function<Value, T> mapper, Consumer<Notification<T>> consumer) {
+        this.executor = executor;
+        this.mapper = mapper;
+        this.consumer = consumer;
+    }
+
+    // Called by the native library
+    void onNotification(String queryId, int action, long ptr) {
+        final Value value = new Value(ptr);
+        schedule(() -> consumer.accept(new Notification<>(queryId, Notification.Action.fromCode(action), mapper.apply(value))));
+    }
+
+    // Called by the native library
+    void onError(String message) {
+        schedule(() -> {
+            throw new SurrealException(message);
+        });
+    }
+
+    private void schedule(Runnable task) {
+        pending.add(task);
+        if (draining.compareAndSet(false, true)) {
+            executor.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        do {
+            Runnable task;
+            while ((task = pending.poll()) != null) {
+                try {
+                    task.run();
+                } catch (Throwable e) {
+                    final Thread thread = Thread.currentThread();
+                    thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+                }
+            }
+            draining.set(false);
+            // A notification may have been queued after the last poll
+        } while (!pending.isEmpty() && draining.compareAndSet(false, true));
+    }
+}
@@ -0,0 +1,46 @@
+package com.surrealdb;
+
+import java.util.Objects;
+
+/**
+ * A running live query.
+ * <p>
+ * Closing the subscription kills the live query and stops the notifications.
+ * The subscription must be kept referenced while notifications are expected:
+ * it is closed when it is garbage collected.
+ *
+ * @see Surreal#live(String, java.util.function.Consumer)
+ */
+public class LiveSubscription extends Native implements AutoCloseable {
+
+    LiveSubscription(long ptr) {
+        super(ptr);
+    }
+
+    @Override
+    final native boolean deleteInstance(long ptr);
+
+    @Override
+    final String toString(long ptr) {
+        return getClass().getName() + "[ptr=" + ptr + "]";
+    }
+
+    @Override
+    final int hashCode(long ptr) {
+        return Objects.hashCode(ptr);
+    }
+
+    @Override
+    final boolean equals(long ptr1, long ptr2) {
+        return ptr1 == ptr2;
+    }
+
+    /**
+     * Kills the live query. No notification is delivered after this method returns,
+     * except those already handed over to the executor.
+     */
+    @Override
+    public void close() {
+        deleteInstance();
+    }
+}
@@ -0,0 +1,77 @@
+package com.surrealdb;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongFunction;
+
+/**
+ * Bridges an operation running on the native runtime to a {@link CompletableFuture}.
+ * <p>
+ * The native library calls {@link #onSuccess(long)} or {@link #onError(String)} from a runtime thread.
+ * The future is completed on the given executor, so dependent stages never run on a runtime thread.
+ * <p>
+ * Cancelling the future aborts the native operation if it is still running.
+ */
+final class NativeCallback<T> {
+
+    private final CompletableFuture<T> future = new CompletableFuture<>();
+
+    private final Executor executor;
+
+    private final LongFunction<T> mapper;
+
+    // Handle of the native task, owned by whoever resets it to zero first
+    private final AtomicLong task = new AtomicLong();
+
+    NativeCallback(Executor executor, LongFunction<T> mapper) {
+        this.executor = executor;
+        this.mapper = mapper;
+        future.whenComplete((r, e) -> {
+            if (future.isCancelled()) {
+                final long ptr = task.getAndSet(0);
+                if (ptr != 0) {
+                    abort(ptr);
+                }
+            }
+        });
+    }
+
+    private static native void abort(long ptr);
+
+    private static native void release(long ptr);
+
+    CompletableFuture<T> future() {
+        return future;
+    }
+
+    // Called by the native library, before the operation is started
+    void onSpawn(long ptr) {
+        task.set(ptr);
+    }
+
+    // Called by the native library
+    void onSuccess(long ptr) {
+        releaseTask();
+        executor.execute(() -> {
+            try {
+                future.complete(mapper.apply(ptr));
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            }
+        });
+    }
+
+    // Called by the native library
+    void onError(String message) {
+        releaseTask();
+        executor.execute(() -> future.completeExceptionally(new SurrealException(message)));
+    }
+
+    private void releaseTask() {
+        final long ptr = task.getAndSet(0);
+        if (ptr != 0) {
+            release(ptr);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.surrealdb;
+
+import java.util.Objects;
+
+/**
+ * A change on a table, received through a live query.
+ *
+ * @param <T> the type of the changed record
+ * @see Surreal#live(Class, String, java.util.function.Consumer)
+ */
+public final class Notification<T> {
+
+    /**
+     * The kind of change.
+     */
+    public enum Action {
+        CREATE,
+        UPDATE,
+        DELETE;
+
+        // Matches the codes sent by the native library
+        static Action fromCode(int code) {
+            switch (code) {
+                case 1:
+                    return CREATE;
+                case 2:
+                    return UPDATE;
+                case 3:
+                    return DELETE;
+                default:
+                    throw new IllegalArgumentException("Unknown action: " + code);
+            }
+        }
+    }
+
+    private final String queryId;
+
+    private final Action action;
+
+    private final T data;
+
+    Notification(String queryId, Action action, T data) {
+        this.queryId = queryId;
+        this.action = action;
+        this.data = data;
+    }
+
+    /**
+     * @return the identifier of the live query
+     */
+    public String getQueryId() {
+        return queryId;
+    }
+
+    /**
+     * @return the kind of change
+     */
+    public Action getAction() {
+        return action;
+    }
+
+    /**
+     * @return the record after the change, or before it for a deletion
+     */
+    public T getData() {
+        return data;
+    }
+
+    @Override
+    public boolean equals(java.lang.Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        final Notification<?> that = (Notification<?>) o;
+        return queryId.equals(that.queryId) && action == that.action && Objects.equals(data, that.data);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(queryId, action, data);
+    }
+
+    @Override
+    public String toString() {
+        return "Notification{queryId=" + queryId + ", action=" + action + ", data=" + data + '}';
+    }
+}
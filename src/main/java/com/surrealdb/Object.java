@@ -1,6 +1,9 @@
 package com.surrealdb;
 
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
 
 /**
  * The Object class implements the Iterable interface for Entry objects.
@@ -22,6 +25,10 @@ public class Object extends Native implements Iterable<Entry> {
 
     private static native long get(long ptr, String key);
 
+    private static native String[] keys(long ptr);
+
+    private static native void entries(long ptr, String[] keys, long[] values);
+
     @Override
     final native String toString(long ptr);
 
@@ -38,6 +45,14 @@ public class Object extends Native implements Iterable<Entry> {
         return toPrettyString(getPtr());
     }
 
+    /**
+     * Returns the value of the given key, without copying it.
+     * The value shares the result tree of this object, which stays alive as long as the value does.
+     *
+     * @param key the key of the value
+     * @return the value, NONE when the key is missing
+     * @see Value
+     */
     final public Value get(String key) {
         return new Value(get(getPtr(), key));
     }
@@ -46,6 +61,50 @@ public class Object extends Native implements Iterable<Entry> {
         return len(getPtr());
     }
 
+    /**
+     * Returns the keys, in a single native call.
+     *
+     * @return the keys of this object, in the order of the object
+     */
+    final public String[] keys() {
+        return keys(getPtr());
+    }
+
+    /**
+     * Returns the entries in a new map, with all keys and values fetched in a single native call.
+     *
+     * @return the entries of this object, in the order of the object
+     */
+    final public Map<String, Value> toMap() {
+        final String[] keys = new String[len()];
+        final long[] values = new long[keys.length];
+        entries(getPtr(), keys, values);
+        final Map<String, Value> map = new LinkedHashMap<>(keys.length * 4 / 3 + 1);
+        for (int i = 0; i < keys.length; i++) {
+            map.put(keys[i], new Value(values[i]));
+        }
+        return map;
+    }
+
+    /**
+     * Performs the given action for each entry, with all keys and values fetched in a single native call.
+     *
+     * @param action the action performed with the key and the value of each entry
+     */
+    final public void forEach(BiConsumer<String, Value> action) {
+        final String[] keys = new String[len()];
+        final long[] values = new long[keys.length];
+        entries(getPtr(), keys, values);
+        // Every handle is wrapped before the action runs, so that they are all released if it throws
+        final Value[] wrapped = new Value[values.length];
+        for (int i = 0; i < values.length; i++) {
+            wrapped[i] = new Value(values[i]);
+        }
+        for (int i = 0; i < keys.length; i++) {
+            action.accept(keys[i], wrapped[i]);
+        }
+    }
+
     @Override
     final public Iterator<Entry> iterator() {
         return new EntryIterator(iterator(getPtr()));
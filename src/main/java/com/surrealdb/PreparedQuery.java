@@ -0,0 +1,116 @@
+package com.surrealdb;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * A SurrealQL query parsed once, and executed as many times as needed with different parameters.
+ * <p>
+ * The parsed statements are kept by the native library in a bounded cache keyed by the query text,
+ * so preparing the same query again does not parse it again.
+ * Parameters are referenced in the query as {@code $name}, and bound at each execution.
+ * <pre>{@code
+ * PreparedQuery query = surreal.prepare("SELECT * FROM person WHERE age > $age");
+ * Response adults = query.execute(Collections.singletonMap("age", 18));
+ * }</pre>
+ *
+ * @see Surreal#prepare(String)
+ */
+public class PreparedQuery extends Native {
+
+    private final Surreal surreal;
+
+    private final String sql;
+
+    PreparedQuery(Surreal surreal, String sql) {
+        super(newInstance(sql));
+        this.surreal = surreal;
+        this.sql = sql;
+    }
+
+    private static native long newInstance(String sql);
+
+    // The number of texts parsed so far, each cache miss counting once
+    static native long parseCount();
+
+    private static native long execute(long surrealPtr, long ptr, String[] paramsKey, long[] valuePtrs);
+
+    private static native void executeAsync(long surrealPtr, long ptr, String[] paramsKey, long[] valuePtrs, NativeCallback<?> callback);
+
+    @Override
+    final native boolean deleteInstance(long ptr);
+
+    @Override
+    final String toString(long ptr) {
+        return getClass().getName() + "[sql=" + sql + "]";
+    }
+
+    @Override
+    final int hashCode(long ptr) {
+        return Objects.hashCode(ptr);
+    }
+
+    @Override
+    final boolean equals(long ptr1, long ptr2) {
+        return ptr1 == ptr2;
+    }
+
+    /**
+     * @return the SurrealQL text of the query
+     */
+    public String getSql() {
+        return sql;
+    }
+
+    /**
+     * Executes the query without parameters.
+     *
+     * @return the response of the query
+     */
+    public Response execute() {
+        return execute(Collections.emptyMap());
+    }
+
+    /**
+     * Executes the query with the given parameters.
+     * <p>
+     * The execution mode and the timeout of the {@link Surreal} instance apply, as for {@link Surreal#queryBind(String, Map)}.
+     *
+     * @param params the parameters bound to the query
+     * @return the response of the query
+     */
+    public Response execute(Map<String, ?> params) {
+        if (surreal.parks()) {
+            return surreal.await(executeAsync(Surreal.PARKING_EXECUTOR, params));
+        }
+        final String[] keys = new String[params.size()];
+        final long[] ptrs = new long[params.size()];
+        final ValueMut[] values = Surreal.convertParams(params, keys, ptrs);
+        return new Response(execute(surreal.getPtr(), getPtr(), keys, ptrs));
+    }
+
+    /**
+     * Executes the query asynchronously, with the given parameters.
+     *
+     * @param params the parameters bound to the query
+     * @return a future completed with the response of the query
+     */
+    public CompletableFuture<Response> executeAsync(Map<String, ?> params) {
+        return executeAsync(surreal.asyncExecutor, params);
+    }
+
+    private CompletableFuture<Response> executeAsync(Executor executor, Map<String, ?> params) {
+        final String[] keys = new String[params.size()];
+        final long[] ptrs = new long[params.size()];
+        final ValueMut[] values = Surreal.convertParams(params, keys, ptrs);
+        final NativeCallback<Response> callback = new NativeCallback<>(executor, Response::new);
+        executeAsync(surreal.getPtr(), getPtr(), keys, ptrs, callback);
+        // The values have been moved to the native query, they are left to Java if the call fails
+        Arrays.stream(values).forEach(Native::moved);
+        return callback.future();
+    }
+}
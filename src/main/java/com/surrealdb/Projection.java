@@ -0,0 +1,121 @@
+package com.surrealdb;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.StringJoiner;
+
+/**
+ * The fields selected for a class, so that typed selects only transfer the fields the class can hold.
+ * <p>
+ * The fields of a class are read once and cached. Fields holding another object are also listed in a
+ * {@code FETCH} clause, so that a record link is replaced by the linked record before it is converted.
+ */
+final class Projection {
+
+    static final Projection ALL = new Projection("*", null, true);
+
+    private static final ClassValue<Projection> CACHE = new ClassValue<Projection>() {
+        @Override
+        protected Projection computeValue(Class<?> type) {
+            return compute(type);
+        }
+    };
+
+    // The expression between SELECT and FROM
+    final String fields;
+
+    // The FETCH clause fields, or null when there is nothing to fetch
+    final String fetch;
+
+    private final boolean hasId;
+
+    private Projection(String fields, String fetch, boolean hasId) {
+        this.fields = fields;
+        this.fetch = fetch;
+        this.hasId = hasId;
+    }
+
+    static Projection of(Class<?> type) {
+        return CACHE.get(type);
+    }
+
+    private static Projection compute(Class<?> type) {
+        // Fields of subclasses hide the fields of the same name in superclasses, as in the conversion
+        final Map<String, Field> fields = new LinkedHashMap<>();
+        for (Class<?> c = type; c != null && c != java.lang.Object.class; c = c.getSuperclass()) {
+            for (final Field field : c.getDeclaredFields()) {
+                final int modifiers = field.getModifiers();
+                // Transient fields are selected too, as the conversion fills them like any other field
+                if (!Modifier.isStatic(modifiers) && !field.isSynthetic()) {
+                    fields.putIfAbsent(field.getName(), field);
+                }
+            }
+        }
+        if (fields.isEmpty()) {
+            return ALL;
+        }
+        final StringJoiner select = new StringJoiner(", ");
+        final StringJoiner fetch = new StringJoiner(", ");
+        boolean fetching = false;
+        for (final Field field : fields.values()) {
+            // A field named like a keyword, such as value, would change the meaning of the statement
+            final String name = Ident.quote(field.getName());
+            select.add(name);
+            if (isNested(elementType(field))) {
+                fetch.add(name);
+                fetching = true;
+            }
+        }
+        return new Projection(select.toString(), fetching ? fetch.toString() : null, fields.containsKey("id"));
+    }
+
+    // The type of the elements of a collection or optional field, or the type of the field
+    private static Class<?> elementType(Field field) {
+        final Class<?> type = field.getType();
+        if (Collection.class.isAssignableFrom(type) || Optional.class.equals(type)) {
+            final Type generic = field.getGenericType();
+            if (generic instanceof ParameterizedType) {
+                final Type[] args = ((ParameterizedType) generic).getActualTypeArguments();
+                if (args.length == 1 && args[0] instanceof Class) {
+                    return (Class<?>) args[0];
+                }
+            }
+            return null;
+        }
+        return type;
+    }
+
+    // Whether the class is converted from an object, rather than from a single value
+    private static boolean isNested(Class<?> type) {
+        if (type == null || type.isPrimitive() || type.isArray() || type.isEnum() || Map.class.isAssignableFrom(type)) {
+            return false;
+        }
+        final String name = type.getName();
+        final String pkg = name.substring(0, Math.max(name.lastIndexOf('.'), 0));
+        // The classes of this package, such as RecordId or Geometry, are single values
+        return !pkg.startsWith("java.") && !pkg.startsWith("javax.") && !pkg.equals(Projection.class.getPackage().getName());
+    }
+
+    /**
+     * @return the same projection, also selecting the record id
+     */
+    Projection withId() {
+        if (hasId) {
+            return this;
+        }
+        return new Projection("`id`, " + fields, fetch, true);
+    }
+
+    /**
+     * @return the FETCH clause, with a leading space, or an empty string
+     */
+    String fetchClause() {
+        return fetch == null ? "" : " FETCH " + fetch;
+    }
+}
@@ -0,0 +1,156 @@
+package com.surrealdb;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Collects independent SurrealQL statements, each with its own parameters, to execute them in a single request.
+ * <p>
+ * The Response of the batch holds one result per added statement, in the order they were added.
+ * Each added query must therefore be a single statement.
+ * <p>
+ * Parameters are scoped to their statement: two statements can bind the same parameter name to different values.
+ * <p>
+ * Example:
+ * <pre>{@code
+ * final QueryBatch batch = new QueryBatch()
+ *     .add("SELECT * FROM person WHERE name = $name", Collections.singletonMap("name", "Tobie"))
+ *     .add("SELECT * FROM person WHERE name = $name", Collections.singletonMap("name", "Jaime"))
+ *     .add("SELECT count() FROM person GROUP ALL");
+ * final Response response = surreal.query(batch);
+ * final Value jaime = response.take(1);
+ * }</pre>
+ */
+public class QueryBatch {
+
+    private final StringBuilder sql = new StringBuilder();
+
+    private final Map<String, java.lang.Object> params = new HashMap<>();
+
+    private int size;
+
+    /**
+     * Adds a statement without parameters.
+     *
+     * @param statement a single SurrealQL statement
+     * @return the current QueryBatch instance
+     */
+    public QueryBatch add(String statement) {
+        return add(statement, Collections.emptyMap());
+    }
+
+    /**
+     * Adds a statement with its own parameters.
+     *
+     * @param statement a single SurrealQL statement
+     * @param params    the parameters bound to this statement only
+     * @return the current QueryBatch instance
+     */
+    public QueryBatch add(String statement, Map<String, ?> params) {
+        final String prefix = "b" + size + "_";
+        final List<String> names = new ArrayList<>(params.size());
+        for (final Map.Entry<String, ?> entry : params.entrySet()) {
+            names.add(entry.getKey());
+            this.params.put(prefix + entry.getKey(), entry.getValue());
+        }
+        // The separator starts on its own line, so that a trailing line comment cannot swallow it
+        sql.append(rename(trimStatement(statement), names, prefix)).append("\n;\n");
+        size++;
+        return this;
+    }
+
+    /**
+     * @return the number of statements in this batch
+     */
+    public int size() {
+        return size;
+    }
+
+    String getSql() {
+        return sql.toString();
+    }
+
+    Map<String, ?> getParams() {
+        return params;
+    }
+
+    private static String trimStatement(String statement) {
+        int end = statement.length();
+        while (end > 0 && (Character.isWhitespace(statement.charAt(end - 1)) || statement.charAt(end - 1) == ';')) {
+            end--;
+        }
+        return statement.substring(0, end);
+    }
+
+    private static boolean isIdentChar(char c) {
+        return Character.isLetterOrDigit(c) || c == '_';
+    }
+
+    /**
+     * Prefixes the given parameter references, leaving strings, quoted identifiers and comments untouched.
+     */
+    static String rename(String statement, List<String> names, String prefix) {
+        if (names.isEmpty()) {
+            return statement;
+        }
+        final StringBuilder out = new StringBuilder(statement.length() + 16);
+        final int len = statement.length();
+        int i = 0;
+        while (i < len) {
+            final char c = statement.charAt(i);
+            final int end;
+            if (c == '\'' || c == '"' || c == '`') {
+                end = skipQuoted(statement, i, c);
+            } else if (c == '\u27E8') {
+                end = skipQuoted(statement, i, '\u27E9');
+            } else if (c == '#' || c == '-' && next(statement, i) == '-' || c == '/' && next(statement, i) == '/') {
+                final int eol = statement.indexOf('\n', i);
+                end = eol < 0 ? len : eol;
+            } else if (c == '/' && next(statement, i) == '*') {
+                final int close = statement.indexOf("*/", i + 2);
+                end = close < 0 ? len : close + 2;
+            } else if (c == '$') {
+                int j = i + 1;
+                while (j < len && isIdentChar(statement.charAt(j))) {
+                    j++;
+                }
+                final String name = statement.substring(i + 1, j);
+                out.append('$');
+                if (names.contains(name)) {
+                    out.append(prefix);
+                }
+                out.append(name);
+                i = j;
+                continue;
+            } else {
+                end = i + 1;
+            }
+            out.append(statement, i, end);
+            i = end;
+        }
+        return out.toString();
+    }
+
+    private static char next(String s, int i) {
+        return i + 1 < s.length() ? s.charAt(i + 1) : 0;
+    }
+
+    // Returns the index following the closing quote, honoring backslash escapes
+    private static int skipQuoted(String s, int start, char close) {
+        int i = start + 1;
+        while (i < s.length()) {
+            final char c = s.charAt(i);
+            if (c == '\\') {
+                i += 2;
+            } else if (c == close) {
+                return i + 1;
+            } else {
+                i++;
+            }
+        }
+        return s.length();
+    }
+}
@@ -1,16 +1,30 @@
 package com.surrealdb;
 
+import com.surrealdb.reactive.Publisher;
+
+import java.util.Iterator;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
 
 /**
  * The Response class is a specialized wrapper for handling responses from SurrealDB.
  */
 public class Response extends Native {
 
+    // Number of leading statements hidden from the caller, such as the USE statement of a session
+    private int offset;
+
     Response(long ptr) {
         super(ptr);
     }
 
+    Response skip(int statements) {
+        offset += statements;
+        return this;
+    }
+
     private static native int size(long ptr);
 
     @Override
@@ -18,16 +32,79 @@ public class Response extends Native {
 
     private native long take(long ptr, int num);
 
+    private static native long takeIterator(long ptr, int num);
+
     public Value take(int num) {
-        return new Value(take(getPtr(), num));
+        return new Value(take(getPtr(), offset + num));
     }
 
     public <T> T take(Class<T> type, int num) {
         return take(num).get(type);
     }
 
+    /**
+     * Takes the given field of every row of the result of the given statement, as a column.
+     *
+     * @param num   the index of the statement
+     * @param field the name of the field
+     * @return the values of the field, with their null mask
+     * @see Array#column(String)
+     */
+    public Column takeColumn(int num, String field) {
+        return take(num).getArray().column(field);
+    }
+
+    /**
+     * Takes the result of the given statement as a Publisher emitting its rows.
+     * <p>
+     * The rows are taken from the response when this method is called, and can only be published once.
+     *
+     * @param num the index of the statement
+     * @return a Publisher emitting each row of the statement result
+     */
+    public Publisher<Value> publisher(int num) {
+        return publisher(takeIterator(num), v -> v);
+    }
+
+    /**
+     * Takes the result of the given statement as a Publisher emitting its rows converted to the given class.
+     * <p>
+     * The rows are taken from the response when this method is called, and can only be published once.
+     *
+     * @param type the class each row is converted to
+     * @param num  the index of the statement
+     * @param <T>  the type of the published elements
+     * @return a Publisher emitting each converted row of the statement result
+     */
+    public <T> Publisher<T> publisher(Class<T> type, int num) {
+        return publisher(takeIterator(num), v -> v.get(type));
+    }
+
+    private ValueIterator takeIterator(int num) {
+        return new ValueIterator(takeIterator(getPtr(), offset + num));
+    }
+
+    private static <T> Publisher<T> publisher(ValueIterator rows, Function<Value, T> mapper) {
+        final AtomicBoolean subscribed = new AtomicBoolean();
+        return new ValuePublisher<>(() -> {
+            if (subscribed.getAndSet(true)) {
+                throw new IllegalStateException("The rows of this response have already been published");
+            }
+            return new ValuePublisher.PageSource() {
+                private boolean done;
+
+                @Override
+                public CompletableFuture<Iterator<Value>> next() {
+                    final Iterator<Value> page = done ? null : rows;
+                    done = true;
+                    return CompletableFuture.completedFuture(page);
+                }
+            };
+        }, mapper);
+    }
+
     public int size() {
-        return size(getPtr());
+        return size(getPtr()) - offset;
     }
 
     @Override
@@ -0,0 +1,95 @@
+package com.surrealdb;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Iterates over every record of a table, in record id order, one page at a time.
+ * <p>
+ * Only the current page is held in memory. While it is consumed, the next page is already being fetched
+ * by the native runtime, so the iteration rarely waits for the database.
+ * <p>
+ * Closing the scan cancels the page being fetched. A scan is not thread-safe.
+ *
+ * @param <T> the type of the iterated elements
+ */
+public final class Scan<T> implements Iterator<T>, AutoCloseable {
+
+    private final TableCursor cursor;
+
+    private final Function<Value, T> mapper;
+
+    private Iterator<Value> page = Collections.emptyIterator();
+
+    // The next page, requested as soon as the current one is received
+    private CompletableFuture<Iterator<Value>> next;
+
+    private boolean closed;
+
+    Scan(TableCursor cursor, Function<Value, T> mapper) {
+        this.cursor = cursor;
+        this.mapper = mapper;
+        this.next = cursor.next();
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!page.hasNext()) {
+            if (next == null) {
+                return false;
+            }
+            final Iterator<Value> received = Surreal.await(next, null);
+            if (received == null) {
+                next = null;
+                return false;
+            }
+            page = received;
+            // The cursor knows the last record id of the received page, the next one can be fetched right away
+            next = cursor.next();
+        }
+        return true;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return mapper.apply(page.next());
+    }
+
+    /**
+     * Returns a sequential stream over the remaining elements.
+     * Closing the stream closes the scan.
+     *
+     * @return a stream of the remaining elements
+     */
+    public Stream<T> stream() {
+        final Spliterator<T> spliterator = Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL);
+        return StreamSupport.stream(spliterator, false).onClose(this::close);
+    }
+
+    /**
+     * Stops the scan, and cancels the page being fetched.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        page = Collections.emptyIterator();
+        if (next != null) {
+            // Cancelling the future aborts the native query
+            next.cancel(true);
+            next = null;
+        }
+    }
+}
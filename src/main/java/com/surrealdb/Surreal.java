@@ -1,8 +1,19 @@
 package com.surrealdb;
 
+import com.surrealdb.reactive.Publisher;
 import com.surrealdb.signin.*;
 
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.LongStream;
 import java.util.stream.Stream;
@@ -18,6 +29,20 @@ public class Surreal extends Native implements AutoCloseable {
         Loader.loadNative();
     }
 
+    private static final int DEFAULT_PAGE_SIZE = 1000;
+
+    private static final int DEFAULT_IMPORT_BATCH_SIZE = 1000;
+
+    // Executor used to complete the futures returned by the asynchronous methods
+    final Executor asyncExecutor = ForkJoinPool.commonPool();
+
+    // Completes the future directly on the runtime thread, only used when the caller waits for it
+    static final Executor PARKING_EXECUTOR = Runnable::run;
+
+    private volatile ExecutionMode executionMode = ExecutionMode.AUTO;
+
+    private volatile Duration timeout;
+
     /**
      * Constructs a new Surreal object.
      */
@@ -25,6 +50,30 @@ public class Surreal extends Native implements AutoCloseable {
         super(Surreal.newInstance());
     }
 
+    /**
+     * Constructs a new Surreal object, after applying the given configuration to the native runtime.
+     *
+     * @param config the configuration of the native runtime
+     * @throws SurrealException if the runtime has already been started with a different configuration
+     * @see SurrealConfig#apply()
+     */
+    public Surreal(SurrealConfig config) {
+        super(Surreal.newInstance(config));
+    }
+
+    private static long newInstance(SurrealConfig config) {
+        configureRuntime(config);
+        return newInstance();
+    }
+
+    static void configureRuntime(SurrealConfig config) {
+        configureRuntime(config.isCurrentThread(), config.getWorkerThreads(), config.getMaxBlockingThreads(),
+            config.getThreadName(), config.getThreadStackSize());
+    }
+
+    private static native boolean configureRuntime(boolean currentThread, int workerThreads, int maxBlockingThreads,
+                                                   String threadName, long threadStackSize);
+
     private static native long newInstance();
 
     private static native boolean connect(long ptr, String connect);
@@ -59,6 +108,8 @@ public class Surreal extends Native implements AutoCloseable {
 
     private static native long updateThingValue(long ptr, long thingPtr, int update, long valuePtr);
 
+    private static native long[] updateThingsValues(long ptr, long[] thingPtrs, int update, long[] valuePtrs);
+
     private static native long updateTargetValue(long ptr, String target, int update, long valuePtr);
 
     private static native long updateTargetsValue(long ptr, String[] targets, int update, long valuePtr);
@@ -69,6 +120,8 @@ public class Surreal extends Native implements AutoCloseable {
 
     private static native long upsertThingValue(long ptr, long thingPtr, int update, long valuePtr);
 
+    private static native long[] upsertThingsValues(long ptr, long[] thingPtrs, int update, long[] valuePtrs);
+
     private static native long upsertTargetValue(long ptr, String target, int update, long valuePtr);
 
     private static native long upsertTargetsValue(long ptr, String[] targets, int update, long valuePtr);
@@ -81,9 +134,9 @@ public class Surreal extends Native implements AutoCloseable {
 
     private static native long[] selectThings(long ptr, long[] things);
 
-    private static native long selectTargetsValues(long ptr, String... targets);
+    private static native long selectTargetsValues(long ptr, String fields, String fetch, String... targets);
 
-    private static native long selectTargetsValuesSync(long ptr, String... targets);
+    private static native long selectTargetsValuesSync(long ptr, String fields, String fetch, String... targets);
 
     private static native boolean deleteThing(long ptr, long thing);
 
@@ -91,6 +144,36 @@ public class Surreal extends Native implements AutoCloseable {
 
     private static native boolean deleteTarget(long ptr, String target);
 
+    private static native long live(long ptr, String table, LiveCallback<?> callback);
+
+    private static native long[] importFile(long ptr, String path, String table, int format, int batchSize);
+
+    private static native long[] exportTable(long ptr, String table, String path, int format, int pageSize);
+
+    private static native boolean exportDatabase(long ptr, String path);
+
+    private static native boolean importDatabase(long ptr, String path);
+
+    private static native void queryAsync(long ptr, String sql, NativeCallback<?> callback);
+
+    private static native void queryBindAsync(long ptr, String sql, String[] paramsKey, long[] valuePtrs, NativeCallback<?> callback);
+
+    private static native void createThingValueAsync(long ptr, long thingPtr, long valuePtr, NativeCallback<?> callback);
+
+    private static native void insertTargetValuesAsync(long ptr, String target, long[] valuePtrs, NativeCallback<?> callback);
+
+    private static native void relateAsync(long ptr, long from, String table, long to, NativeCallback<?> callback);
+
+    private static native void updateThingValueAsync(long ptr, long thingPtr, int update, long valuePtr, NativeCallback<?> callback);
+
+    private static native void upsertThingValueAsync(long ptr, long thingPtr, int update, long valuePtr, NativeCallback<?> callback);
+
+    private static native void selectThingAsync(long ptr, long thing, NativeCallback<?> callback);
+
+    private static native void selectTargetsValuesAsync(long ptr, String fields, String fetch, String[] targets, NativeCallback<?> callback);
+
+    private static native void deleteThingAsync(long ptr, long thing, NativeCallback<?> callback);
+
 
     @Override
     final String toString(long ptr) {
@@ -174,6 +257,97 @@ public class Surreal extends Native implements AutoCloseable {
         return this;
     }
 
+    /**
+     * Returns a session running queries in the given namespace and database, over the connection of this instance.
+     * <p>
+     * Unlike {@link #useNs(String)} and {@link #useDb(String)}, a session does not change any shared state,
+     * so sessions on different namespaces and databases can be used concurrently.
+     *
+     * @param ns the namespace used by the session
+     * @param db the database used by the session
+     * @return a new session
+     */
+    public SurrealSession session(String ns, String db) {
+        return new SurrealSession(this, Objects.requireNonNull(ns, "ns"), Objects.requireNonNull(db, "db"));
+    }
+
+    /**
+     * Sets how the blocking methods wait for the native runtime.
+     * <p>
+     * By default ({@link ExecutionMode#AUTO}), calls made from a virtual thread are submitted to the native runtime
+     * and the virtual thread parks until they complete, so it does not pin its carrier thread.
+     * Calls made from a platform thread run the operation directly.
+     * <p>
+     * This applies to queries, and to the CRUD methods working on a single record or a single target.
+     * Connecting, signing in and changing the namespace or database always block.
+     *
+     * @param mode the execution mode
+     * @return the current Surreal instance
+     */
+    public Surreal executionMode(ExecutionMode mode) {
+        executionMode = Objects.requireNonNull(mode, "mode");
+        return this;
+    }
+
+    /**
+     * Sets the default timeout of the blocking methods of this instance.
+     * <p>
+     * When an operation exceeds the timeout, the wait is abandoned, an abort of the client-side task is requested,
+     * and a {@link SurrealTimeoutException} is thrown. The operation may still have taken effect,
+     * as described by {@link SurrealTimeoutException}.
+     * While a timeout is set, operations are submitted to the native runtime whatever the execution mode,
+     * so an interrupted calling thread also stops waiting and gets a {@link SurrealTimeoutException}.
+     * <p>
+     * This applies to the same methods as {@link #executionMode(ExecutionMode)}.
+     *
+     * @param timeout the default timeout, or null for no timeout
+     * @return the current Surreal instance
+     */
+    public Surreal timeout(Duration timeout) {
+        this.timeout = checkTimeout(timeout);
+        return this;
+    }
+
+    private static Duration checkTimeout(Duration timeout) {
+        if (timeout != null && (timeout.isNegative() || timeout.isZero())) {
+            throw new IllegalArgumentException("The timeout must be positive: " + timeout);
+        }
+        return timeout;
+    }
+
+    boolean parks() {
+        final ExecutionMode mode = executionMode;
+        return timeout != null || mode == ExecutionMode.PARKING
+            || mode == ExecutionMode.AUTO && VirtualThreads.isVirtual(Thread.currentThread());
+    }
+
+    <T> T await(CompletableFuture<T> future) {
+        return await(future, timeout);
+    }
+
+    // Waits for the future and throws the same exception as the blocking native call would
+    static <T> T await(CompletableFuture<T> future, Duration timeout) {
+        try {
+            if (timeout == null) {
+                return future.get();
+            }
+            return future.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new SurrealException(e.getCause().getMessage(), e.getCause());
+        } catch (TimeoutException e) {
+            // Cancelling the future aborts the native operation
+            future.cancel(true);
+            throw new SurrealTimeoutException("The operation did not complete within " + timeout);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new SurrealTimeoutException("The operation was interrupted");
+        }
+    }
+
     /**
      * Executes a SurrealQL query on the database.
      * <p>
@@ -184,6 +358,9 @@ public class Surreal extends Native implements AutoCloseable {
      * @return a Response object containing the results of the query
      */
     public Response query(String sql) {
+        if (parks()) {
+            return await(queryAsync(PARKING_EXECUTOR, sql));
+        }
         return new Response(query(getPtr(), sql));
     }
 
@@ -198,6 +375,9 @@ public class Surreal extends Native implements AutoCloseable {
      * @return a Response object containing the results of the query
      */
     public Response queryBind(String sql, Map<String, ?> params) {
+        if (parks()) {
+            return await(queryBindAsync(PARKING_EXECUTOR, sql, params));
+        }
         Map<String, ValueMut> valueMutMap = params.entrySet().stream()
             .collect(Collectors.toMap(
                 Map.Entry::getKey,
@@ -211,6 +391,74 @@ public class Surreal extends Native implements AutoCloseable {
         return new Response(queryBind(getPtr(), sql,keys, values ));
     }
 
+    /**
+     * Prepares a SurrealQL query, to be executed many times with different parameters.
+     * <p>
+     * The query is parsed once, and the parsed statements are cached by the native library,
+     * so repeated executions do not pay the cost of parsing. Syntax errors are thrown by this method.
+     *
+     * @param sql the SurrealQL query to be prepared
+     * @return the prepared query
+     */
+    public PreparedQuery prepare(String sql) {
+        return new PreparedQuery(this, sql);
+    }
+
+    /**
+     * Executes a SurrealQL query on the database, waiting for it no longer than the given timeout.
+     * <p>
+     * When the timeout elapses, or the calling thread is interrupted, an abort of the client-side task is requested,
+     * but the query may still have taken effect.
+     * <p>
+     * For more details, check the <a href="https://surrealdb.com/docs/surrealql">SurrealQL documentation</a>.
+     *
+     * @param sql     the SurrealQL query to be executed
+     * @param timeout the maximum time to wait for the query
+     * @return a Response object containing the results of the query
+     * @throws SurrealTimeoutException if the timeout elapsed or the thread was interrupted
+     */
+    public Response query(String sql, Duration timeout) {
+        return await(queryAsync(PARKING_EXECUTOR, sql), Objects.requireNonNull(checkTimeout(timeout), "timeout"));
+    }
+
+    /**
+     * Executes a parameterized SurrealQL query on the database, waiting for it no longer than the given timeout.
+     * <p>
+     * When the timeout elapses, or the calling thread is interrupted, an abort of the client-side task is requested,
+     * but the query may still have taken effect.
+     * <p>
+     * For more details, check the <a href="https://surrealdb.com/docs/surrealql">SurrealQL documentation</a>.
+     *
+     * @param sql     the SurrealQL query to be executed
+     * @param params  a map containing parameter values to be bound to the SQL query
+     * @param timeout the maximum time to wait for the query
+     * @return a Response object containing the results of the query
+     * @throws SurrealTimeoutException if the timeout elapsed or the thread was interrupted
+     */
+    public Response queryBind(String sql, Map<String, ?> params, Duration timeout) {
+        return await(queryBindAsync(PARKING_EXECUTOR, sql, params), Objects.requireNonNull(checkTimeout(timeout), "timeout"));
+    }
+
+    /**
+     * Executes every statement of the batch in a single request.
+     * <p>
+     * The Response holds one result per statement, in the order they were added to the batch.
+     *
+     * @param batch the statements to be executed
+     * @return a Response object containing the results of the statements
+     * @see QueryBatch
+     */
+    public Response query(QueryBatch batch) {
+        checkNotEmpty(batch);
+        return queryBind(batch.getSql(), batch.getParams());
+    }
+
+    static void checkNotEmpty(QueryBatch batch) {
+        if (batch.size() == 0) {
+            throw new IllegalArgumentException("The batch does not contain any statement");
+        }
+    }
+
     /**
      * Creates a record in the database with the given `RecordID` as the key and the provided content as the value.
      * <p>
@@ -223,6 +471,9 @@ public class Surreal extends Native implements AutoCloseable {
      * @return a new Value object initialized with the provided RecordId and content
      */
     public <T> Value create(RecordId thg, T content) {
+        if (parks()) {
+            return await(createAsync(PARKING_EXECUTOR, thg, content));
+        }
         final ValueMut valueMut = ValueBuilder.convert(content);
         final long valuePtr = createThingValue(getPtr(), thg.getPtr(), valueMut.getPtr());
         return new Value(valuePtr);
@@ -293,6 +544,9 @@ public class Surreal extends Native implements AutoCloseable {
      */
     @SafeVarargs
     public final <T> List<Value> insert(String target, T... contents) {
+        if (parks()) {
+            return await(insertAsync(PARKING_EXECUTOR, target, contents));
+        }
         final long[] valueMutPtrs = contents2longs(contents);
         final long[] valuePtrs = insertTargetValues(getPtr(), target, valueMutPtrs);
         return Arrays.stream(valuePtrs).mapToObj(Value::new).collect(Collectors.toList());
@@ -317,6 +571,112 @@ public class Surreal extends Native implements AutoCloseable {
         }
     }
 
+    /**
+     * Returns a BulkInserter loading a large number of records into the given table,
+     * in chunks, with several chunks in flight at the same time.
+     *
+     * @param <T>   the type of the inserted contents
+     * @param table the table the records are inserted into
+     * @return a new BulkInserter
+     */
+    public <T> BulkInserter<T> bulkInserter(String table) {
+        return new BulkInserter<>(this, table);
+    }
+
+    /**
+     * Imports the records of a file into the given table.
+     * <p>
+     * The file is streamed by the native library and inserted in batches of 1000 records,
+     * so it is never loaded in memory as a whole.
+     *
+     * @param file   the file to import
+     * @param table  the table the records are inserted into
+     * @param format the format of the file
+     * @return the number of records, batches and bytes imported
+     * @see #importFile(Path, String, ImportFormat, int)
+     */
+    public ImportReport importFile(Path file, String table, ImportFormat format) {
+        return importFile(file, table, format, DEFAULT_IMPORT_BATCH_SIZE);
+    }
+
+    /**
+     * Imports the records of a file into the given table, inserting them in batches of the given size.
+     * <p>
+     * The import stops at the first invalid line or failed batch. The exception reports the line number,
+     * or the range of lines holding the records of the failed batch.
+     * The batches inserted before the failure are kept.
+     *
+     * @param file      the file to import
+     * @param table     the table the records are inserted into
+     * @param format    the format of the file
+     * @param batchSize the maximum number of records per insert statement
+     * @return the number of records, batches and bytes imported
+     */
+    public ImportReport importFile(Path file, String table, ImportFormat format, int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("The batch size must be positive: " + batchSize);
+        }
+        final long start = System.nanoTime();
+        final long[] counters = importFile(getPtr(), file.toAbsolutePath().toString(), table, format.code, batchSize);
+        return new ImportReport(counters[0], counters[1], counters[2], Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    /**
+     * Exports the records of the given table to a file.
+     * <p>
+     * The records are written by the native library, in pages of 1000 records read in record id order,
+     * so the table is never loaded in memory as a whole. An existing file is overwritten.
+     *
+     * @param table  the table to export
+     * @param out    the file the records are written to
+     * @param format the format of the file
+     * @return the number of records, pages and bytes exported
+     * @see #exportTable(String, Path, ExportFormat, int)
+     */
+    public ExportReport exportTable(String table, Path out, ExportFormat format) {
+        return exportTable(table, out, format, DEFAULT_PAGE_SIZE);
+    }
+
+    /**
+     * Exports the records of the given table to a file, reading them in pages of the given size.
+     *
+     * @param table    the table to export
+     * @param out      the file the records are written to
+     * @param format   the format of the file
+     * @param pageSize the maximum number of records read at once
+     * @return the number of records, pages and bytes exported
+     */
+    public ExportReport exportTable(String table, Path out, ExportFormat format, int pageSize) {
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("The page size must be positive: " + pageSize);
+        }
+        final long start = System.nanoTime();
+        final long[] counters = exportTable(getPtr(), table, out.toAbsolutePath().toString(), format.code, pageSize);
+        return new ExportReport(counters[0], counters[1], counters[2], Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    /**
+     * Exports the current database, its definitions and all its records, to a SurrealQL file.
+     * <p>
+     * For more details, check the <a href="https://surrealdb.com/docs/surrealdb/cli/export">SurrealDB documentation</a>.
+     *
+     * @param out the file the database is written to
+     */
+    public void exportDatabase(Path out) {
+        exportDatabase(getPtr(), out.toAbsolutePath().toString());
+    }
+
+    /**
+     * Imports a SurrealQL file, such as one written by {@link #exportDatabase(Path)}, into the current database.
+     * <p>
+     * For more details, check the <a href="https://surrealdb.com/docs/surrealdb/cli/import">SurrealDB documentation</a>.
+     *
+     * @param in the file to import
+     */
+    public void importDatabase(Path in) {
+        importDatabase(getPtr(), in.toAbsolutePath().toString());
+    }
+
     /**
      * Inserts a relation to the specified table using the provided content.
      * <p>
@@ -399,6 +759,9 @@ public class Surreal extends Native implements AutoCloseable {
      * @return a new {@code Value} instance representing the relation
      */
     public Value relate(RecordId from, String table, RecordId to) {
+        if (parks()) {
+            return await(relateAsync(PARKING_EXECUTOR, from, table, to));
+        }
         final long valuePtr = relate(getPtr(), from.getPtr(), table, to.getPtr());
         return new Value(valuePtr);
     }
@@ -469,6 +832,9 @@ public class Surreal extends Native implements AutoCloseable {
      * @return A Value object representing the updated value.
      */
     public <T> Value update(RecordId thg, UpType upType, T content) {
+        if (parks()) {
+            return await(updateAsync(PARKING_EXECUTOR, thg, upType, content));
+        }
         final ValueMut valueMut = ValueBuilder.convert(content);
         final long valuePtr = updateThingValue(getPtr(), thg.getPtr(), upType.code, valueMut.getPtr());
         return new Value(valuePtr);
@@ -490,6 +856,42 @@ public class Surreal extends Native implements AutoCloseable {
         return update(thg, upType, content).get(type);
     }
 
+    /**
+     * Updates several records, each with its own content, in a single request.
+     * The records are changed in a single transaction: when one of them fails, none of them is changed.
+     * <p>
+     * For more details, check the <a href="https://surrealdb.com/docs/surrealql/statements/update">SurrealQL documentation</a>.
+     * <p>
+     *
+     * @param <T>      the type of the contents
+     * @param upType   the type of update operation to perform
+     * @param contents the content of each record, by RecordId
+     * @return the updated records, in the iteration order of the map (records which do not exist are skipped)
+     */
+    public <T> List<Value> update(UpType upType, Map<RecordId, T> contents) {
+        final long[] thingPtrs = new long[contents.size()];
+        final long[] valuePtrs = entries2longs(contents, thingPtrs);
+        final long[] ptrs = updateThingsValues(getPtr(), thingPtrs, upType.code, valuePtrs);
+        return Arrays.stream(ptrs).mapToObj(Value::new).collect(Collectors.toList());
+    }
+
+    /**
+     * Updates several records, each with its own content, in a single request,
+     * and returns the updated records converted to the specified type.
+     *
+     * @param <T>      the type of the contents and of the returned records
+     * @param type     the class of the returned records
+     * @param upType   the type of update operation to perform
+     * @param contents the content of each record, by RecordId
+     * @return the updated records, in the iteration order of the map
+     * @see #update(UpType, Map)
+     */
+    public <T> List<T> update(Class<T> type, UpType upType, Map<RecordId, T> contents) {
+        try (final Stream<Value> s = update(upType, contents).stream()) {
+            return s.map(v -> v.get(type)).collect(Collectors.toList());
+        }
+    }
+
     /**
      * Updates the table with the given content based on the specified update type.
      * <p>
@@ -633,6 +1035,9 @@ public class Surreal extends Native implements AutoCloseable {
      * @return The resulting value after the upsert operation.
      */
     public <T> Value upsert(RecordId thg, UpType upType, T content) {
+        if (parks()) {
+            return await(upsertAsync(PARKING_EXECUTOR, thg, upType, content));
+        }
         final ValueMut valueMut = ValueBuilder.convert(content);
         final long valuePtr = upsertThingValue(getPtr(), thg.getPtr(), upType.code, valueMut.getPtr());
         return new Value(valuePtr);
@@ -654,6 +1059,42 @@ public class Surreal extends Native implements AutoCloseable {
         return upsert(thg, upType, content).get(type);
     }
 
+    /**
+     * Upserts several records, each with its own content, in a single request.
+     * The records are changed in a single transaction: when one of them fails, none of them is changed.
+     * <p>
+     * For more details, check the <a href="https://surrealdb.com/docs/surrealql/statements/upsert">SurrealQL documentation</a>.
+     * <p>
+     *
+     * @param <T>      the type of the contents
+     * @param upType   the type of upsert operation to perform
+     * @param contents the content of each record, by RecordId
+     * @return the upserted records, in the iteration order of the map
+     */
+    public <T> List<Value> upsert(UpType upType, Map<RecordId, T> contents) {
+        final long[] thingPtrs = new long[contents.size()];
+        final long[] valuePtrs = entries2longs(contents, thingPtrs);
+        final long[] ptrs = upsertThingsValues(getPtr(), thingPtrs, upType.code, valuePtrs);
+        return Arrays.stream(ptrs).mapToObj(Value::new).collect(Collectors.toList());
+    }
+
+    /**
+     * Upserts several records, each with its own content, in a single request,
+     * and returns the upserted records converted to the specified type.
+     *
+     * @param <T>      the type of the contents and of the returned records
+     * @param type     the class of the returned records
+     * @param upType   the type of upsert operation to perform
+     * @param contents the content of each record, by RecordId
+     * @return the upserted records, in the iteration order of the map
+     * @see #upsert(UpType, Map)
+     */
+    public <T> List<T> upsert(Class<T> type, UpType upType, Map<RecordId, T> contents) {
+        try (final Stream<Value> s = upsert(upType, contents).stream()) {
+            return s.map(v -> v.get(type)).collect(Collectors.toList());
+        }
+    }
+
     /**
      * Performs an upsert operation on the specified table with the provided content.
      * The operation type is determined by the {@code UpType} enumeration.
@@ -795,6 +1236,17 @@ public class Surreal extends Native implements AutoCloseable {
         return ptrs;
     }
 
+    // Returns the converted contents, and fills the RecordIds in the same order
+    private <T> long[] entries2longs(Map<RecordId, T> contents, long[] thingPtrs) {
+        final long[] valuePtrs = new long[contents.size()];
+        int index = 0;
+        for (final Map.Entry<RecordId, T> entry : contents.entrySet()) {
+            thingPtrs[index] = entry.getKey().getPtr();
+            valuePtrs[index++] = ValueBuilder.convert(entry.getValue()).getPtr();
+        }
+        return valuePtrs;
+    }
+
     /**
      * Selects a record by its RecordId and retrieves the corresponding Value.
      * <p>
@@ -804,6 +1256,9 @@ public class Surreal extends Native implements AutoCloseable {
      * @return an Optional containing the Value if the record is found, or an empty Optional if not found
      */
     public Optional<Value> select(RecordId recordId) {
+        if (parks()) {
+            return await(selectAsync(PARKING_EXECUTOR, recordId));
+        }
         final long valuePtr = selectThing(getPtr(), recordId.getPtr());
         if (valuePtr == 0) {
             return Optional.empty();
@@ -876,7 +1331,14 @@ public class Surreal extends Native implements AutoCloseable {
      * @return An iterator over the values corresponding to the specified targets.
      */
     public Iterator<Value> select(String targets) {
-        return new ValueIterator(selectTargetsValues(getPtr(), targets));
+        return select(Projection.ALL, targets);
+    }
+
+    private Iterator<Value> select(Projection projection, String targets) {
+        if (parks()) {
+            return await(selectAsync(PARKING_EXECUTOR, projection, targets));
+        }
+        return new ValueIterator(selectTargetsValues(getPtr(), projection.fields, projection.fetch, targets));
     }
 
     /**
@@ -888,7 +1350,11 @@ public class Surreal extends Native implements AutoCloseable {
      * @return A thread-safe iterator to traverse the values associated with the specified targets.
      */
     public Iterator<Value> selectSync(String targets) {
-        return new SynchronizedValueIterator(selectTargetsValuesSync(getPtr(), targets));
+        return selectSync(Projection.ALL, targets);
+    }
+
+    private Iterator<Value> selectSync(Projection projection, String targets) {
+        return new SynchronizedValueIterator(selectTargetsValuesSync(getPtr(), projection.fields, projection.fetch, targets));
     }
 
     /**
@@ -903,7 +1369,7 @@ public class Surreal extends Native implements AutoCloseable {
      * @return An iterator of the specified type for the selected targets.
      */
     public <T> Iterator<T> select(Class<T> type, String targets) {
-        return new ValueObjectIterator<>(type, select(targets));
+        return new ValueObjectIterator<>(type, select(Projection.of(type), targets));
     }
 
     /**
@@ -918,7 +1384,161 @@ public class Surreal extends Native implements AutoCloseable {
      * @return a thread-safe iterator over a collection of objects of the specified type
      */
     public <T> Iterator<T> selectSync(Class<T> type, String targets) {
-        return new ValueObjectIterator<>(type, selectSync(targets));
+        return new ValueObjectIterator<>(type, selectSync(Projection.of(type), targets));
+    }
+
+    /**
+     * Returns a Publisher emitting every record of the given table, in record id order.
+     * <p>
+     * Records are fetched page by page, only when the subscriber has requested more elements,
+     * so a large table can be streamed without loading it in memory.
+     * Each subscription performs its own scan of the table.
+     *
+     * @param table the name of the table to select from
+     * @return a Publisher emitting each record of the table
+     */
+    public Publisher<Value> selectPublisher(String table) {
+        return selectPublisher(table, DEFAULT_PAGE_SIZE);
+    }
+
+    /**
+     * Returns a Publisher emitting every record of the given table, in record id order.
+     *
+     * @param table    the name of the table to select from
+     * @param pageSize the maximum number of records fetched per round trip
+     * @return a Publisher emitting each record of the table
+     * @see #selectPublisher(String)
+     */
+    public Publisher<Value> selectPublisher(String table, int pageSize) {
+        return new ValuePublisher<>(() -> new TableCursor(this, table, Projection.ALL, pageSize), v -> v);
+    }
+
+    /**
+     * Returns a Publisher emitting every record of the given table converted to the given class, in record id order.
+     * <p>
+     * Records are fetched page by page, only when the subscriber has requested more elements,
+     * so a large table can be streamed without loading it in memory.
+     * Each subscription performs its own scan of the table.
+     *
+     * @param <T>   the type of the published elements
+     * @param type  the class each record is converted to
+     * @param table the name of the table to select from
+     * @return a Publisher emitting each converted record of the table
+     */
+    public <T> Publisher<T> selectPublisher(Class<T> type, String table) {
+        return selectPublisher(type, table, DEFAULT_PAGE_SIZE);
+    }
+
+    /**
+     * Returns a Publisher emitting every record of the given table converted to the given class, in record id order.
+     *
+     * @param <T>      the type of the published elements
+     * @param type     the class each record is converted to
+     * @param table    the name of the table to select from
+     * @param pageSize the maximum number of records fetched per round trip
+     * @return a Publisher emitting each converted record of the table
+     * @see #selectPublisher(Class, String)
+     */
+    public <T> Publisher<T> selectPublisher(Class<T> type, String table, int pageSize) {
+        return new ValuePublisher<>(() -> new TableCursor(this, table, Projection.of(type), pageSize), v -> v.get(type));
+    }
+
+    /**
+     * Scans every record of the given table, in record id order.
+     * <p>
+     * Records are fetched in pages of 1000, and the next page is fetched while the current one is consumed,
+     * so a table of any size can be iterated without loading it in memory.
+     *
+     * @param table the name of the table to scan
+     * @return an iterator over the records of the table, to be closed if it is not consumed entirely
+     * @see #scan(Class, String, int)
+     */
+    public Scan<Value> scan(String table) {
+        return scan(table, DEFAULT_PAGE_SIZE);
+    }
+
+    /**
+     * Scans every record of the given table, in record id order, fetching them in pages of the given size.
+     *
+     * @param table    the name of the table to scan
+     * @param pageSize the maximum number of records fetched per round trip
+     * @return an iterator over the records of the table, to be closed if it is not consumed entirely
+     */
+    public Scan<Value> scan(String table, int pageSize) {
+        return new Scan<>(new TableCursor(this, table, Projection.ALL, pageSize), v -> v);
+    }
+
+    /**
+     * Scans every record of the given table converted to the given class, in record id order.
+     *
+     * @param <T>   the type of the iterated elements
+     * @param type  the class each record is converted to
+     * @param table the name of the table to scan
+     * @return an iterator over the converted records of the table, to be closed if it is not consumed entirely
+     * @see #scan(Class, String, int)
+     */
+    public <T> Scan<T> scan(Class<T> type, String table) {
+        return scan(type, table, DEFAULT_PAGE_SIZE);
+    }
+
+    /**
+     * Scans every record of the given table converted to the given class, in record id order.
+     * <p>
+     * Each page starts after the last record id of the previous page ({@code WHERE id > $last ORDER BY id LIMIT n}),
+     * so only one page of records is transferred and held in memory at a time.
+     * The condition is not turned into a range scan by the database, which may filter and sort the table for each page.
+     * While the current page is consumed, the next one is already being fetched by the native runtime.
+     * <pre>{@code
+     * try (Stream<Person> persons = surreal.scan(Person.class, "person", 5000).stream()) {
+     *     persons.filter(p -> p.active).forEach(...);
+     * }
+     * }</pre>
+     *
+     * @param <T>      the type of the iterated elements
+     * @param type     the class each record is converted to
+     * @param table    the name of the table to scan
+     * @param pageSize the maximum number of records fetched per round trip
+     * @return an iterator over the converted records of the table, to be closed if it is not consumed entirely
+     */
+    public <T> Scan<T> scan(Class<T> type, String table, int pageSize) {
+        final ValueClassConverter<T> converter = new ValueClassConverter<>(type);
+        return new Scan<>(new TableCursor(this, table, Projection.of(type), pageSize), converter::convert);
+    }
+
+    /**
+     * Starts a live query on the given table, and passes each change of the table to the consumer.
+     * <p>
+     * Notifications are pushed by the database as soon as the change happens, and delivered one at a time,
+     * in order, on the common {@link ForkJoinPool}.
+     * <p>
+     * For more details, check the <a href="https://surrealdb.com/docs/surrealql/statements/live">SurrealQL documentation</a>.
+     *
+     * @param table    the name of the table to watch
+     * @param consumer receives the notifications
+     * @return the subscription, to be closed to stop the live query
+     */
+    public LiveSubscription live(String table, Consumer<Notification<Value>> consumer) {
+        return live(table, v -> v, consumer);
+    }
+
+    /**
+     * Starts a live query on the given table, and passes each change of the table to the consumer,
+     * with the record converted to the given class.
+     *
+     * @param <T>      the type of the records
+     * @param type     the class each record is converted to
+     * @param table    the name of the table to watch
+     * @param consumer receives the notifications
+     * @return the subscription, to be closed to stop the live query
+     * @see #live(String, Consumer)
+     */
+    public <T> LiveSubscription live(Class<T> type, String table, Consumer<Notification<T>> consumer) {
+        return live(table, v -> v.get(type), consumer);
+    }
+
+    private <T> LiveSubscription live(String table, Function<Value, T> mapper, Consumer<Notification<T>> consumer) {
+        final LiveCallback<T> callback = new LiveCallback<>(asyncExecutor, mapper, Objects.requireNonNull(consumer, "consumer"));
+        return new LiveSubscription(live(getPtr(), table, callback));
     }
 
     /**
@@ -929,6 +1549,10 @@ public class Surreal extends Native implements AutoCloseable {
      * @param recordId the identifier of the record to be deleted
      */
     public void delete(RecordId recordId) {
+        if (parks()) {
+            await(deleteAsync(PARKING_EXECUTOR, recordId));
+            return;
+        }
         deleteThing(getPtr(), recordId.getPtr());
     }
 
@@ -955,6 +1579,364 @@ public class Surreal extends Native implements AutoCloseable {
         deleteTarget(getPtr(), target);
     }
 
+    /**
+     * Asynchronously executes a SurrealQL query on the database.
+     * <p>
+     * The query runs on the native runtime and does not block the calling thread.
+     * The returned future is completed on the common {@link ForkJoinPool}.
+     * <p>
+     * For more details, check the <a href="https://surrealdb.com/docs/surrealql">SurrealQL documentation</a>.
+     * <p>
+     *
+     * @param sql the SurrealQL query to be executed
+     * @return a future completed with the Response of the query
+     */
+    public CompletableFuture<Response> queryAsync(String sql) {
+        return queryAsync(asyncExecutor, sql);
+    }
+
+    private CompletableFuture<Response> queryAsync(Executor executor, String sql) {
+        final NativeCallback<Response> callback = new NativeCallback<>(executor, Response::new);
+        queryAsync(getPtr(), sql, callback);
+        return callback.future();
+    }
+
+    /**
+     * Asynchronously executes every statement of the batch in a single request.
+     *
+     * @param batch the statements to be executed
+     * @return a future completed with a Response holding one result per statement
+     * @see #query(QueryBatch)
+     */
+    public CompletableFuture<Response> queryAsync(QueryBatch batch) {
+        checkNotEmpty(batch);
+        return queryBindAsync(batch.getSql(), batch.getParams());
+    }
+
+    /**
+     * Asynchronously executes a parameterized SurrealQL query on the database.
+     * <p>
+     * For more details, check the <a href="https://surrealdb.com/docs/surrealql">SurrealQL documentation</a>.
+     * <p>
+     *
+     * @param sql    the SurrealQL query to be executed
+     * @param params a map containing parameter values to be bound to the SQL query
+     * @return a future completed with the Response of the query
+     */
+    public CompletableFuture<Response> queryBindAsync(String sql, Map<String, ?> params) {
+        return queryBindAsync(asyncExecutor, sql, params);
+    }
+
+    // Converts the parameters, filling their names and pointers in the same order.
+    // The returned values must stay reachable until the native call returns.
+    static ValueMut[] convertParams(Map<String, ?> params, String[] keys, long[] ptrs) {
+        final ValueMut[] values = new ValueMut[params.size()];
+        int idx = 0;
+        for (final Map.Entry<String, ?> entry : params.entrySet()) {
+            keys[idx] = entry.getKey();
+            values[idx] = ValueBuilder.convert(entry.getValue());
+            ptrs[idx] = values[idx].getPtr();
+            idx++;
+        }
+        return values;
+    }
+
+    private CompletableFuture<Response> queryBindAsync(Executor executor, String sql, Map<String, ?> params) {
+        final String[] keys = new String[params.size()];
+        final long[] ptrs = new long[params.size()];
+        final ValueMut[] values = Surreal.convertParams(params, keys, ptrs);
+        final NativeCallback<Response> callback = new NativeCallback<>(executor, Response::new);
+        queryBindAsync(getPtr(), sql, keys, ptrs, callback);
+        // The values have been moved to the native query, they are left to Java if the call fails
+        Arrays.stream(values).forEach(Native::moved);
+        return callback.future();
+    }
+
+    /**
+     * Asynchronously creates a record in the database with the given `RecordID` as the key and the provided content as the value.
+     * <p>
+     * For more details, check the <a href="https://surrealdb.com/docs/surrealql/statements/create">SurrealQL documentation</a>.
+     * <p>
+     *
+     * @param <T>     the type of the content
+     * @param thg     the RecordId associated with the new record
+     * @param content the content of the created record
+     * @return a future completed with the created record
+     */
+    public <T> CompletableFuture<Value> createAsync(RecordId thg, T content) {
+        return createAsync(asyncExecutor, thg, content);
+    }
+
+    private <T> CompletableFuture<Value> createAsync(Executor executor, RecordId thg, T content) {
+        final ValueMut valueMut = ValueBuilder.convert(content);
+        final NativeCallback<Value> callback = new NativeCallback<>(executor, Value::new);
+        createThingValueAsync(getPtr(), thg.getPtr(), valueMut.getPtr(), callback);
+        // The value has been moved to the native query
+        valueMut.moved();
+        return callback.future();
+    }
+
+    /**
+     * Asynchronously creates a record in the database with the given `RecordID` as the key and the provided content as the value.
+     * <p>
+     * For more details, check the <a href="https://surrealdb.com/docs/surrealql/statements/create">SurrealQL documentation</a>.
+     * <p>
+     *
+     * @param <T>     the type of the content
+     * @param type    The class type of the object to create
+     * @param thg     The RecordId used with the new record
+     * @param content The content of the created record
+     * @return a future completed with an instance of the specified type
+     */
+    public <T> CompletableFuture<T> createAsync(Class<T> type, RecordId thg, T content) {
+        return createAsync(thg, content).thenApply(v -> v.get(type));
+    }
+
+    /**
+     * Asynchronously inserts records in the database with the given table and the provided contents as the values.
+     * <p>
+     * For more details, check the <a href="https://surrealdb.com/docs/surrealql/statements/insert">SurrealQL documentation</a>.
+     * <p>
+     *
+     * @param <T>      the type of the contents
+     * @param target   the target for which the records are inserted
+     * @param contents the contents of the inserted records
+     * @return a future completed with the list of inserted records
+     */
+    @SafeVarargs
+    public final <T> CompletableFuture<List<Value>> insertAsync(String target, T... contents) {
+        return insertAsync(asyncExecutor, target, contents);
+    }
+
+    private <T> CompletableFuture<List<Value>> insertAsync(Executor executor, String target, T[] contents) {
+        final long[] valueMutPtrs = contents2longs(contents);
+        final NativeCallback<List<Value>> callback = new NativeCallback<>(executor, ptr -> {
+            final List<Value> values = new ArrayList<>(contents.length);
+            new ValueIterator(ptr).forEachRemaining(values::add);
+            return values;
+        });
+        insertTargetValuesAsync(getPtr(), target, valueMutPtrs, callback);
+        return callback.future();
+    }
+
+    /**
+     * Asynchronously inserts records in the database with the given table and the provided contents as the values.
+     * <p>
+     * For more details, check the <a href="https://surrealdb.com/docs/surrealql/statements/insert">SurrealQL documentation</a>.
+     * <p>
+     *
+     * @param <T>      the type of objects to be inserted
+     * @param type     the class of the type to be inserted
+     * @param target   the target string used in the insertion process
+     * @param contents the contents to be used to insert the objects
+     * @return a future completed with the list of inserted objects
+     */
+    @SafeVarargs
+    public final <T> CompletableFuture<List<T>> insertAsync(Class<T> type, String target, T... contents) {
+        return insertAsync(target, contents).thenApply(l -> l.stream().map(v -> v.get(type)).collect(Collectors.toList()));
+    }
+
+    /**
+     * Asynchronously establishes a relation between two records identified by `from` and `to` within a specified table.
+     * <p>
+     * For more details, check the <a href="https://surrealdb.com/docs/surrealql/statements/relate">SurrealQL documentation</a>.
+     * <p>
+     *
+     * @param from  the record identifier from which the relation originates
+     * @param table the name of the table where the relation will be established
+     * @param to    the record identifier to which the relation points
+     * @return a future completed with the relation
+     */
+    public CompletableFuture<Value> relateAsync(RecordId from, String table, RecordId to) {
+        return relateAsync(asyncExecutor, from, table, to);
+    }
+
+    private CompletableFuture<Value> relateAsync(Executor executor, RecordId from, String table, RecordId to) {
+        final NativeCallback<Value> callback = new NativeCallback<>(executor, Value::new);
+        relateAsync(getPtr(), from.getPtr(), table, to.getPtr(), callback);
+        return callback.future();
+    }
+
+    /**
+     * Asynchronously establishes and retrieves a relation of a specified type between two records.
+     * <p>
+     * For more details, check the <a href="https://surrealdb.com/docs/surrealql/statements/relate">SurrealQL documentation</a>.
+     * <p>
+     *
+     * @param <T>   The type of the relation extending Relation.
+     * @param type  The class type of the relation.
+     * @param from  The starting record of the relation.
+     * @param table The name of the table that holds the relation.
+     * @param to    The ending record of the relation.
+     * @return a future completed with the relation of the specified type
+     */
+    public <T extends Relation> CompletableFuture<T> relateAsync(Class<T> type, RecordId from, String table, RecordId to) {
+        return relateAsync(from, table, to).thenApply(v -> v.get(type));
+    }
+
+    /**
+     * Asynchronously updates the value of a record with the specified content and update type.
+     * <p>
+     * For more details, check the <a href="https://surrealdb.com/docs/surrealql/statements/update">SurrealQL documentation</a>.
+     *
+     * @param <T>     The type of the content to be updated.
+     * @param thg     The RecordId of the thing to be updated.
+     * @param upType  The type of update to be performed.
+     * @param content The new content to set for the specified record.
+     * @return a future completed with the updated value
+     */
+    public <T> CompletableFuture<Value> updateAsync(RecordId thg, UpType upType, T content) {
+        return updateAsync(asyncExecutor, thg, upType, content);
+    }
+
+    private <T> CompletableFuture<Value> updateAsync(Executor executor, RecordId thg, UpType upType, T content) {
+        final ValueMut valueMut = ValueBuilder.convert(content);
+        final NativeCallback<Value> callback = new NativeCallback<>(executor, Value::new);
+        updateThingValueAsync(getPtr(), thg.getPtr(), upType.code, valueMut.getPtr(), callback);
+        // The value has been moved to the native query
+        valueMut.moved();
+        return callback.future();
+    }
+
+    /**
+     * Asynchronously updates a record of the specified type and returns the updated record.
+     * <p>
+     * For more details, check the <a href="https://surrealdb.com/docs/surrealql/statements/update">SurrealQL documentation</a>.
+     *
+     * @param <T>     the type of the record
+     * @param type    the class type of the record to be updated
+     * @param thg     the identifier of the record to be updated
+     * @param upType  the type of update operation to be performed
+     * @param content the new content to update the record with
+     * @return a future completed with the updated record of the specified type
+     */
+    public <T> CompletableFuture<T> updateAsync(Class<T> type, RecordId thg, UpType upType, T content) {
+        return updateAsync(thg, upType, content).thenApply(v -> v.get(type));
+    }
+
+    /**
+     * Asynchronously inserts a new record or updates an existing record with the given content.
+     * <p>
+     * For more details, check the <a href="https://surrealdb.com/docs/surrealql/statements/upsert">SurrealQL documentation</a>.
+     *
+     * @param <T>     The type of the content.
+     * @param thg     The record identifier.
+     * @param upType  The update type specifying how to handle the upsert.
+     * @param content The content to be inserted or updated.
+     * @return a future completed with the resulting value
+     */
+    public <T> CompletableFuture<Value> upsertAsync(RecordId thg, UpType upType, T content) {
+        return upsertAsync(asyncExecutor, thg, upType, content);
+    }
+
+    private <T> CompletableFuture<Value> upsertAsync(Executor executor, RecordId thg, UpType upType, T content) {
+        final ValueMut valueMut = ValueBuilder.convert(content);
+        final NativeCallback<Value> callback = new NativeCallback<>(executor, Value::new);
+        upsertThingValueAsync(getPtr(), thg.getPtr(), upType.code, valueMut.getPtr(), callback);
+        // The value has been moved to the native query
+        valueMut.moved();
+        return callback.future();
+    }
+
+    /**
+     * Asynchronously upserts a record and returns the updated or inserted entity.
+     * <p>
+     * For more details, check the <a href="https://surrealdb.com/docs/surrealql/statements/upsert">SurrealQL documentation</a>.
+     *
+     * @param <T>     The type of the entity to be upserted.
+     * @param type    The class type of the entity.
+     * @param thg     The record identifier.
+     * @param upType  The type of the update.
+     * @param content The content of the entity to be upserted.
+     * @return a future completed with the upserted entity of the specified type
+     */
+    public <T> CompletableFuture<T> upsertAsync(Class<T> type, RecordId thg, UpType upType, T content) {
+        return upsertAsync(thg, upType, content).thenApply(v -> v.get(type));
+    }
+
+    /**
+     * Asynchronously selects a record by its RecordId.
+     * <p>
+     * For more details, check the <a href="https://surrealdb.com/docs/surrealql/statements/select">SurrealQL documentation</a>.
+     *
+     * @param recordId the unique identifier of the record to be selected
+     * @return a future completed with the Value if the record is found, or an empty Optional if not found
+     */
+    public CompletableFuture<Optional<Value>> selectAsync(RecordId recordId) {
+        return selectAsync(asyncExecutor, recordId);
+    }
+
+    private CompletableFuture<Optional<Value>> selectAsync(Executor executor, RecordId recordId) {
+        final NativeCallback<Optional<Value>> callback = new NativeCallback<>(executor,
+            ptr -> ptr == 0 ? Optional.empty() : Optional.of(new Value(ptr)));
+        selectThingAsync(getPtr(), recordId.getPtr(), callback);
+        return callback.future();
+    }
+
+    /**
+     * Asynchronously selects an instance of the specified type from a record identified by the given RecordId.
+     * <p>
+     * For more details, check the <a href="https://surrealdb.com/docs/surrealql/statements/select">SurrealQL documentation</a>.
+     *
+     * @param <T>      the type of the instance to be selected
+     * @param type     the class type of the instance to be selected
+     * @param recordId the unique identifier of the record from which to select the instance
+     * @return a future completed with the selected instance if present, otherwise an empty Optional
+     */
+    public <T> CompletableFuture<Optional<T>> selectAsync(Class<T> type, RecordId recordId) {
+        return selectAsync(recordId).thenApply(o -> o.map(v -> v.get(type)));
+    }
+
+    /**
+     * Asynchronously selects the values corresponding to the given targets.
+     * <p>
+     * For more details, check the <a href="https://surrealdb.com/docs/surrealql/statements/select">SurrealQL documentation</a>.
+     *
+     * @param targets A string representing the targets to be selected.
+     * @return a future completed with an iterator over the selected values
+     */
+    public CompletableFuture<Iterator<Value>> selectAsync(String targets) {
+        return selectAsync(asyncExecutor, Projection.ALL, targets);
+    }
+
+    private CompletableFuture<Iterator<Value>> selectAsync(Executor executor, Projection projection, String targets) {
+        final NativeCallback<Iterator<Value>> callback = new NativeCallback<>(executor, ValueIterator::new);
+        selectTargetsValuesAsync(getPtr(), projection.fields, projection.fetch, new String[]{targets}, callback);
+        return callback.future();
+    }
+
+    /**
+     * Asynchronously selects the objects of the specified type for the given targets.
+     * <p>
+     * For more details, check the <a href="https://surrealdb.com/docs/surrealql/statements/select">SurrealQL documentation</a>.
+     *
+     * @param <T>     The type of objects to be selected.
+     * @param type    The class type of the objects to be selected.
+     * @param targets A string specifying the targets to select from.
+     * @return a future completed with an iterator of the specified type
+     */
+    public <T> CompletableFuture<Iterator<T>> selectAsync(Class<T> type, String targets) {
+        return selectAsync(asyncExecutor, Projection.of(type), targets).thenApply(i -> new ValueObjectIterator<>(type, i));
+    }
+
+    /**
+     * Asynchronously deletes a record identified by the provided RecordId.
+     * <p>
+     * For more details, check the <a href="https://surrealdb.com/docs/surrealql/statements/delete">SurrealQL documentation</a>.
+     *
+     * @param recordId the identifier of the record to be deleted
+     * @return a future completed once the record has been deleted
+     */
+    public CompletableFuture<Void> deleteAsync(RecordId recordId) {
+        return deleteAsync(asyncExecutor, recordId);
+    }
+
+    private CompletableFuture<Void> deleteAsync(Executor executor, RecordId recordId) {
+        final NativeCallback<Void> callback = new NativeCallback<>(executor, ptr -> null);
+        deleteThingAsync(getPtr(), recordId.getPtr(), callback);
+        return callback.future();
+    }
+
     /**
      * Closes and releases any resources associated with this instance.
      * This method is typically called when the instance is no longer needed.
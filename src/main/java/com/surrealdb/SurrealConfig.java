@@ -0,0 +1,133 @@
+package com.surrealdb;
+
+import java.util.Objects;
+
+/**
+ * Configures the native runtime shared by every {@link Surreal} instance.
+ * <p>
+ * The runtime is started by the first operation needing it, usually the first {@link Surreal#connect(String)}.
+ * The configuration must be applied before that, either with {@link #apply()} or with {@link Surreal#Surreal(SurrealConfig)}.
+ * <p>
+ * Example:
+ * <pre>{@code
+ * final SurrealConfig config = new SurrealConfig()
+ *     .workerThreads(2)
+ *     .maxBlockingThreads(8)
+ *     .threadName("surrealdb");
+ * try (final Surreal surreal = new Surreal(config)) {
+ *     surreal.connect("memory");
+ * }
+ * }</pre>
+ */
+public class SurrealConfig {
+
+    private boolean currentThread;
+
+    private int workerThreads;
+
+    private int maxBlockingThreads;
+
+    private String threadName;
+
+    private long threadStackSize;
+
+    /**
+     * Sets whether the runtime uses a single thread instead of a pool of worker threads.
+     * <p>
+     * Every asynchronous operation then runs on one dedicated thread, which avoids cross-thread hand-offs
+     * for latency-sensitive embedded use.
+     *
+     * @param currentThread true for a single threaded runtime
+     * @return the current SurrealConfig instance
+     */
+    public SurrealConfig currentThread(boolean currentThread) {
+        this.currentThread = currentThread;
+        return this;
+    }
+
+    /**
+     * Sets the number of worker threads. Defaults to the number of available cores.
+     * Ignored by a single threaded runtime.
+     *
+     * @param workerThreads the number of worker threads
+     * @return the current SurrealConfig instance
+     */
+    public SurrealConfig workerThreads(int workerThreads) {
+        this.workerThreads = positive("workerThreads", workerThreads);
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of threads used for blocking operations, such as file access.
+     *
+     * @param maxBlockingThreads the maximum number of blocking threads
+     * @return the current SurrealConfig instance
+     */
+    public SurrealConfig maxBlockingThreads(int maxBlockingThreads) {
+        this.maxBlockingThreads = positive("maxBlockingThreads", maxBlockingThreads);
+        return this;
+    }
+
+    /**
+     * Sets the name given to the threads of the runtime.
+     *
+     * @param threadName the name of the threads
+     * @return the current SurrealConfig instance
+     */
+    public SurrealConfig threadName(String threadName) {
+        this.threadName = Objects.requireNonNull(threadName, "threadName");
+        return this;
+    }
+
+    /**
+     * Sets the stack size of the threads of the runtime.
+     *
+     * @param threadStackSize the stack size in bytes
+     * @return the current SurrealConfig instance
+     */
+    public SurrealConfig threadStackSize(long threadStackSize) {
+        if (threadStackSize <= 0) {
+            throw new IllegalArgumentException("threadStackSize must be positive: " + threadStackSize);
+        }
+        this.threadStackSize = threadStackSize;
+        return this;
+    }
+
+    /**
+     * Applies this configuration to the native runtime.
+     * <p>
+     * Applying the configuration the runtime was started with again has no effect.
+     *
+     * @throws SurrealException if the runtime has already been started with a different configuration
+     */
+    public void apply() {
+        Surreal.configureRuntime(this);
+    }
+
+    boolean isCurrentThread() {
+        return currentThread;
+    }
+
+    int getWorkerThreads() {
+        return workerThreads;
+    }
+
+    int getMaxBlockingThreads() {
+        return maxBlockingThreads;
+    }
+
+    String getThreadName() {
+        return threadName;
+    }
+
+    long getThreadStackSize() {
+        return threadStackSize;
+    }
+
+    private static int positive(String name, int value) {
+        if (value <= 0) {
+            throw new IllegalArgumentException(name + " must be positive: " + value);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,126 @@
+package com.surrealdb;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A lightweight handle running queries in its own namespace and database, over the connection of a {@link Surreal} instance.
+ * <p>
+ * Sessions do not change the namespace or database of the Surreal instance, nor of the other sessions,
+ * so many threads can each work in their own namespace and database in parallel over one engine.
+ * A session owns no native resource: it is valid as long as the Surreal instance it was created from is open.
+ * <p>
+ * Authentication is shared by every session of a connection.
+ *
+ * @see Surreal#session(String, String)
+ */
+public class SurrealSession {
+
+    private final Surreal surreal;
+
+    private final String namespace;
+
+    private final String database;
+
+    private final String use;
+
+    SurrealSession(Surreal surreal, String namespace, String database) {
+        this.surreal = surreal;
+        this.namespace = namespace;
+        this.database = database;
+        this.use = "USE NS " + Ident.escape(namespace) + " DB " + Ident.escape(database) + ";\n";
+    }
+
+    /**
+     * @return the namespace used by this session
+     */
+    public String getNamespace() {
+        return namespace;
+    }
+
+    /**
+     * @return the database used by this session
+     */
+    public String getDatabase() {
+        return database;
+    }
+
+    /**
+     * Executes a SurrealQL query in the namespace and database of this session.
+     * <p>
+     * For more details, check the <a href="https://surrealdb.com/docs/surrealql">SurrealQL documentation</a>.
+     * <p>
+     *
+     * @param sql the SurrealQL query to be executed
+     * @return a Response object containing the results of the query
+     */
+    public Response query(String sql) {
+        return surreal.query(use + sql).skip(1);
+    }
+
+    /**
+     * Executes a parameterized SurrealQL query in the namespace and database of this session.
+     * <p>
+     * For more details, check the <a href="https://surrealdb.com/docs/surrealql">SurrealQL documentation</a>.
+     * <p>
+     *
+     * @param sql    the SurrealQL query to be executed
+     * @param params a map containing parameter values to be bound to the SQL query
+     * @return a Response object containing the results of the query
+     */
+    public Response queryBind(String sql, Map<String, ?> params) {
+        return surreal.queryBind(use + sql, params).skip(1);
+    }
+
+    /**
+     * Executes every statement of the batch in a single request, in the namespace and database of this session.
+     *
+     * @param batch the statements to be executed
+     * @return a Response object containing the results of the statements
+     * @see Surreal#query(QueryBatch)
+     */
+    public Response query(QueryBatch batch) {
+        Surreal.checkNotEmpty(batch);
+        return queryBind(batch.getSql(), batch.getParams());
+    }
+
+    /**
+     * Asynchronously executes a SurrealQL query in the namespace and database of this session.
+     *
+     * @param sql the SurrealQL query to be executed
+     * @return a future completed with the Response of the query
+     * @see Surreal#queryAsync(String)
+     */
+    public CompletableFuture<Response> queryAsync(String sql) {
+        return surreal.queryAsync(use + sql).thenApply(r -> r.skip(1));
+    }
+
+    /**
+     * Asynchronously executes a parameterized SurrealQL query in the namespace and database of this session.
+     *
+     * @param sql    the SurrealQL query to be executed
+     * @param params a map containing parameter values to be bound to the SQL query
+     * @return a future completed with the Response of the query
+     * @see Surreal#queryBindAsync(String, Map)
+     */
+    public CompletableFuture<Response> queryBindAsync(String sql, Map<String, ?> params) {
+        return surreal.queryBindAsync(use + sql, params).thenApply(r -> r.skip(1));
+    }
+
+    /**
+     * Asynchronously executes every statement of the batch in a single request, in the namespace and database of this session.
+     *
+     * @param batch the statements to be executed
+     * @return a future completed with a Response holding one result per statement
+     * @see Surreal#query(QueryBatch)
+     */
+    public CompletableFuture<Response> queryAsync(QueryBatch batch) {
+        Surreal.checkNotEmpty(batch);
+        return queryBindAsync(batch.getSql(), batch.getParams());
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getName() + "[ns=" + namespace + ", db=" + database + "]";
+    }
+}
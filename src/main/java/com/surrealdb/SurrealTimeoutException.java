@@ -0,0 +1,16 @@
+package com.surrealdb;
+
+/**
+ * Thrown when an operation did not complete within its timeout, or when the waiting thread was interrupted.
+ * <p>
+ * In both cases the wait has been abandoned and an abort of the client-side task has been requested.
+ * The operation may still have taken effect: a write may already be committed,
+ * and a remote server keeps executing the query. Retrying a write may therefore apply it twice.
+ */
+public class SurrealTimeoutException extends SurrealException {
+
+    SurrealTimeoutException(String message) {
+        super(message);
+    }
+
+}
@@ -0,0 +1,62 @@
+package com.surrealdb;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Pages through the records of a table in record id order.
+ * <p>
+ * Each page starts after the last record id of the previous page,
+ * so the whole table is never loaded at once.
+ */
+final class TableCursor implements ValuePublisher.PageSource {
+
+    private final Surreal surreal;
+    private final String table;
+    private final String firstPage;
+    private final String nextPage;
+    private final int pageSize;
+    private RecordId last;
+    private boolean done;
+
+    TableCursor(Surreal surreal, String table, Projection projection, int pageSize) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("The page size must be positive: " + pageSize);
+        }
+        this.surreal = surreal;
+        this.table = table;
+        this.pageSize = pageSize;
+        // The record id is always selected, as the next page starts after it
+        projection = projection.withId();
+        this.firstPage = "SELECT " + projection.fields + " FROM type::table($table) ORDER BY id LIMIT $limit" + projection.fetchClause();
+        this.nextPage = "SELECT " + projection.fields + " FROM type::table($table) WHERE id > $last ORDER BY id LIMIT $limit" + projection.fetchClause();
+    }
+
+    @Override
+    public CompletableFuture<Iterator<Value>> next() {
+        if (done) {
+            return CompletableFuture.completedFuture(null);
+        }
+        final Map<String, java.lang.Object> params = new HashMap<>();
+        params.put("table", table);
+        params.put("limit", pageSize);
+        if (last != null) {
+            params.put("last", last);
+        }
+        return surreal.queryBindAsync(last == null ? firstPage : nextPage, params).thenApply(this::page);
+    }
+
+    private Iterator<Value> page(Response response) {
+        final Array rows = response.take(0).getArray();
+        final int len = rows.len();
+        // A short page is the last one
+        done = len < pageSize;
+        if (len == 0) {
+            return null;
+        }
+        last = rows.get(len - 1).getObject().get("id").getThing();
+        return rows.iterator();
+    }
+}
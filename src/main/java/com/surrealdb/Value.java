@@ -1,6 +1,11 @@
 package com.surrealdb;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.math.BigDecimal;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.ZoneId;
@@ -12,6 +17,12 @@ import java.util.UUID;
  * It provides various methods to
  * interact with and retrieve values such as arrays, objects, strings,
  * numbers, and more.
+ * <p>
+ * The values read from a result, such as the elements of an array or the fields of an object,
+ * share the native result tree instead of copying it. A handle therefore keeps the whole tree alive,
+ * not only its own part, until every handle on it has been released.
+ * To keep a small part of a large result, convert it into a Java object with {@link #get(Class)},
+ * or copy it with {@link ValueMut#createArray(Array)} or {@link ValueMut#createObject(Object)}.
  */
 public class Value extends Native {
 
@@ -71,8 +82,20 @@ public class Value extends Native {
 
     private static native boolean isBytes(long ptr);
 
+    private static native int getKind(long ptr);
+
     private static native byte[] getBytes(long ptr);
 
+    private static native int getBytesDirect(long ptr, ByteBuffer dst, int position, int remaining);
+
+    private static native int getBytesArray(long ptr, byte[] dst, int offset, int remaining);
+
+    private static native byte[] toCbor(long ptr);
+
+    private static native int writeCborDirect(long ptr, ByteBuffer dst, int position, int remaining);
+
+    private static native int writeCborArray(long ptr, byte[] dst, int offset, int remaining);
+
     private static native boolean isThing(long ptr);
 
     private static native long getThing(long ptr);
@@ -93,6 +116,16 @@ public class Value extends Native {
         return toPrettyString(getPtr());
     }
 
+    /**
+     * Returns the type of this value, in a single native call,
+     * rather than asking each of the {@code is} methods in turn.
+     *
+     * @return the type of this value
+     */
+    public ValueKind getKind() {
+        return ValueKind.of(getKind(getPtr()));
+    }
+
     public boolean isArray() {
         return isArray(getPtr());
     }
@@ -181,6 +214,88 @@ public class Value extends Native {
         return getBytes(getPtr());
     }
 
+    /**
+     * Copies the bytes into the given buffer, starting at its position, and advances its position.
+     * <p>
+     * A direct buffer is written by the native library without any intermediate copy.
+     *
+     * @param dst the buffer receiving the bytes
+     * @return the number of copied bytes
+     * @throws BufferOverflowException if the buffer has not enough remaining space, nothing is copied then
+     */
+    public int getBytes(ByteBuffer dst) {
+        if (dst.isReadOnly()) {
+            throw new ReadOnlyBufferException();
+        }
+        final int position = dst.position();
+        final int remaining = dst.remaining();
+        final int length;
+        if (dst.isDirect()) {
+            length = getBytesDirect(getPtr(), dst, position, remaining);
+        } else {
+            length = getBytesArray(getPtr(), dst.array(), dst.arrayOffset() + position, remaining);
+        }
+        if (length > remaining) {
+            throw new BufferOverflowException();
+        }
+        dst.position(position + length);
+        return length;
+    }
+
+    /**
+     * Encodes the value in the CBOR format used by the SurrealDB protocol.
+     * SurrealQL types, such as record ids, datetimes or decimals, are kept through their CBOR tags.
+     *
+     * @return the encoded value
+     * @see ValueMut#fromCbor(ByteBuffer)
+     */
+    public byte[] toCbor() {
+        return toCbor(getPtr());
+    }
+
+    /**
+     * Encodes the value in the CBOR format into the given buffer, starting at its position, and advances its position.
+     * <p>
+     * A direct buffer is written by the native library without any intermediate copy.
+     *
+     * @param dst the buffer receiving the encoded value
+     * @return the number of written bytes
+     * @throws BufferOverflowException if the buffer has not enough remaining space, nothing is written then
+     * @see #toCbor()
+     */
+    public int writeCbor(ByteBuffer dst) {
+        if (dst.isReadOnly()) {
+            throw new ReadOnlyBufferException();
+        }
+        final int position = dst.position();
+        final int remaining = dst.remaining();
+        final int length;
+        if (dst.isDirect()) {
+            length = writeCborDirect(getPtr(), dst, position, remaining);
+        } else {
+            length = writeCborArray(getPtr(), dst.array(), dst.arrayOffset() + position, remaining);
+        }
+        if (length > remaining) {
+            throw new BufferOverflowException();
+        }
+        dst.position(position + length);
+        return length;
+    }
+
+    /**
+     * Encodes the value in the CBOR format to the given stream.
+     *
+     * @param out the stream receiving the encoded value
+     * @return the number of written bytes
+     * @throws IOException if the stream cannot be written
+     * @see #toCbor()
+     */
+    public int writeCbor(OutputStream out) throws IOException {
+        final byte[] bytes = toCbor(getPtr());
+        out.write(bytes);
+        return bytes.length;
+    }
+
     public boolean isGeometry() {
         return isGeometry(getPtr());
     }
@@ -4,6 +4,7 @@ import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
 import java.time.Duration;
 import java.time.ZonedDateTime;
 import java.util.*;
@@ -49,6 +50,13 @@ class ValueBuilder {
         if (object instanceof ZonedDateTime) {
             return ValueMut.createDatetime((ZonedDateTime) object);
         }
+        if (object instanceof byte[]) {
+            return ValueMut.createBytes((byte[]) object);
+        }
+        if (object instanceof ByteBuffer) {
+            // The position of the caller's buffer is left unchanged
+            return ValueMut.createBytes(((ByteBuffer) object).duplicate());
+        }
         if (object instanceof BigInteger) {
             throw new SurrealException("Type not supported: " + object.getClass().getCanonicalName());
         }
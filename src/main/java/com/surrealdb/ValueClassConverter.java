@@ -1,8 +1,5 @@
 package com.surrealdb;
 
-import java.lang.reflect.Field;
-import java.lang.reflect.ParameterizedType;
-import java.lang.reflect.Type;
 import java.util.*;
 
 class ValueClassConverter<T> {
@@ -13,157 +10,180 @@ class ValueClassConverter<T> {
         this.clazz = clazz;
     }
 
-    private static java.lang.Object convertSingleValue(final Value value) {
-        if (value.isNull())
-            return null;
-        if (value.isBoolean())
-            return value.getBoolean();
-        if (value.isDouble())
-            return value.getDouble();
-        if (value.isLong())
-            return value.getLong();
-        if (value.isString())
-            return value.getString();
-        if (value.isThing())
-            return value.getThing();
-        if (value.isGeometry())
-            return value.getGeometry();
-        if (value.isBigdecimal())
-            return value.getBigDecimal();
-        if (value.isBytes())
-            return value.getBytes();
-        if (value.isUuid())
-            return value.getUuid();
-        if (value.isDuration())
-            return value.getDuration();
-        if (value.isDateTime())
-            return value.getDateTime();
-        throw new SurrealException("Unsupported value: " + value);
+    private static java.lang.Object convertSingleValue(final Value value, final ValueKind kind) {
+        switch (kind) {
+            case NULL:
+                return null;
+            case BOOLEAN:
+                return value.getBoolean();
+            case DOUBLE:
+                return value.getDouble();
+            case LONG:
+                return value.getLong();
+            case STRING:
+                return value.getString();
+            case THING:
+                return value.getThing();
+            case GEOMETRY:
+                return value.getGeometry();
+            case BIGDECIMAL:
+                return value.getBigDecimal();
+            case BYTES:
+                return value.getBytes();
+            case UUID:
+                return value.getUuid();
+            case DURATION:
+                return value.getDuration();
+            case DATETIME:
+                return value.getDateTime();
+            default:
+                throw new SurrealException("Unsupported value: " + value);
+        }
     }
 
-    private static <T> void setSingleValue(final Field field, final Class<?> type, final T target, final Value value) throws IllegalAccessException {
-        if (value.isNull()) {
-            field.set(target, null);
-        } else if (value.isBoolean()) {
-            field.setBoolean(target, value.getBoolean());
-        } else if (value.isDouble()) {
-            final double d = value.getDouble();
-            if (type == Double.TYPE)
-                field.setDouble(target, d);
-            else if (type == Float.TYPE)
-                field.setFloat(target, (float) d);
-            else if (type == Float.class)
-                field.set(target, (float) d);
-            else field.set(target, d);
-        } else if (value.isLong()) {
-            final long l = value.getLong();
-            if (type == Long.TYPE)
-                field.setLong(target, l);
-            else if (type == Integer.TYPE)
-                field.setInt(target, (int) l);
-            else if (type == Integer.class)
-                field.set(target, (int) l);
-            else if (type == Short.TYPE)
-                field.setShort(target, (short) l);
-            else if (type == Short.class)
-                field.set(target, (short) l);
-            else
-                field.set(target, l);
-        } else if (value.isString()) {
-            field.set(target, value.getString());
-        } else if (value.isThing()) {
-            if (field.getType() == Id.class) {
-                field.set(target, value.getThing().getId());
-            } else {
-                field.set(target, value.getThing());
+    private static <T> void setSingleValue(final ClassMapper.FieldMapper field, final Class<?> type, final T target, final Value value, final ValueKind kind) throws ReflectiveOperationException {
+        switch (kind) {
+            case NULL:
+                field.set(target, null);
+                break;
+            case BOOLEAN:
+                field.set(target, value.getBoolean());
+                break;
+            case DOUBLE: {
+                final double d = value.getDouble();
+                if (type == Float.TYPE || type == Float.class)
+                    field.set(target, (float) d);
+                else field.set(target, d);
+                break;
             }
-        } else if (value.isGeometry()) {
-            field.set(target, value.getGeometry());
-        } else if (value.isBigdecimal()) {
-            field.set(target, value.getBigDecimal());
-        } else if (value.isBytes()) {
-            field.set(target, value.getBytes());
-        } else if (value.isUuid()) {
-            field.set(target, value.getUuid());
-        } else if (value.isDuration()) {
-            field.set(target, value.getDuration());
-        } else if (value.isDateTime()) {
-            field.set(target, value.getDateTime());
-        } else {
-            throw new SurrealException("Unsupported value: " + value);
+            case LONG: {
+                final long l = value.getLong();
+                if (type == Integer.TYPE || type == Integer.class)
+                    field.set(target, (int) l);
+                else if (type == Short.TYPE || type == Short.class)
+                    field.set(target, (short) l);
+                else if (type == Double.TYPE || type == Double.class)
+                    field.set(target, (double) l);
+                else if (type == Float.TYPE || type == Float.class)
+                    field.set(target, (float) l);
+                else
+                    field.set(target, l);
+                break;
+            }
+            case STRING:
+                field.set(target, value.getString());
+                break;
+            case THING:
+                if (type == Id.class) {
+                    field.set(target, value.getThing().getId());
+                } else {
+                    field.set(target, value.getThing());
+                }
+                break;
+            case GEOMETRY:
+                field.set(target, value.getGeometry());
+                break;
+            case BIGDECIMAL:
+                field.set(target, value.getBigDecimal());
+                break;
+            case BYTES:
+                field.set(target, value.getBytes());
+                break;
+            case UUID:
+                field.set(target, value.getUuid());
+                break;
+            case DURATION:
+                field.set(target, value.getDuration());
+                break;
+            case DATETIME:
+                field.set(target, value.getDateTime());
+                break;
+            default:
+                throw new SurrealException("Unsupported value: " + value);
         }
     }
 
-    private static java.lang.Object convertArrayValue(final Field field, final Value value) throws ReflectiveOperationException {
-        if (value.isObject()) {
-            final Class<?> subType = getGenericType(field, 0);
-            if (subType == null) {
-                throw new SurrealException("Unsupported field type: " + field);
+    private static java.lang.Object convertArrayValue(final ClassMapper.FieldMapper field, final Value value) throws ReflectiveOperationException {
+        final ValueKind kind = value.getKind();
+        switch (kind) {
+            case OBJECT: {
+                final Class<?> subType = field.elementType;
+                if (subType == null) {
+                    throw new SurrealException("Unsupported field type: " + field.field);
+                }
+                return convert(subType, value.getObject());
             }
-            return convert(subType, value.getObject());
-        } else if (value.isArray()) {
-            final List<java.lang.Object> arrayList = new ArrayList<>();
-            for (final Value elementValue : value.getArray()) {
-                arrayList.add(convertArrayValue(field, elementValue));
+            case ARRAY: {
+                final List<java.lang.Object> arrayList = new ArrayList<>();
+                for (final Value elementValue : value.getArray().toList()) {
+                    arrayList.add(convertArrayValue(field, elementValue));
+                }
+                return arrayList;
             }
-            return arrayList;
-        } else {
-            return convertSingleValue(value);
+            default:
+                return convertSingleValue(value, kind);
         }
     }
 
     private static <T> T convert(Class<T> clazz, Object source) throws ReflectiveOperationException {
-        final T target = clazz.getConstructor().newInstance();
-        for (final Entry entry : source) {
-            try {
-                final String key = entry.getKey();
-                final Value value = entry.getValue();
-                final Field field = getInheritedDeclaredField(clazz, key);
-                final Class<?> type = field.getType();
-
-                field.setAccessible(true);
-
-                if (Value.class.equals(type)) {
-                    field.set(target, value);
-                } else if (value.isArray()) {
-                    final List<java.lang.Object> arrayList = new ArrayList<>();
-                    for (final Value elementValue : value.getArray()) {
-                        arrayList.add(convertArrayValue(field, elementValue));
+        final ClassMapper<T> mapper = ClassMapper.of(clazz);
+        final T target = mapper.newInstance();
+        // The keys and values are fetched at once
+        for (final Map.Entry<String, Value> entry : source.toMap().entrySet()) {
+            final ClassMapper.FieldMapper field = mapper.field(entry.getKey());
+            if (field == null) {
+                // Keys without a matching field are ignored
+                continue;
+            }
+            final Value value = entry.getValue();
+            // The type is read once, each is-method would be a native call
+            final ValueKind kind = value.getKind();
+            if (kind == ValueKind.NONE) {
+                // A field missing from a projected document comes back as NONE, it is ignored as a missing key
+                continue;
+            }
+            final Class<?> type = field.type;
+            if (Value.class.equals(type)) {
+                field.set(target, value);
+                continue;
+            }
+            if (kind == ValueKind.ARRAY) {
+                final List<java.lang.Object> arrayList = new ArrayList<>();
+                for (final Value elementValue : value.getArray().toList()) {
+                    arrayList.add(convertArrayValue(field, elementValue));
+                }
+                setFieldObject(field, type, target, arrayList);
+            } else if (kind == ValueKind.OBJECT) {
+                if (Map.class.isAssignableFrom(type)) {
+                    final Map<String, java.lang.Object> map = new HashMap<>();
+                    final Class<?> subType = field.valueType;
+                    if (subType == null) {
+                        throw new SurrealException("Unsupported field type: " + field.field);
                     }
-                    setFieldObject(field, type, target, arrayList);
-                } else if (value.isObject()) {
-                    if (Map.class.isAssignableFrom(type)) {
-                        final Map<String, java.lang.Object> map = new HashMap<>();
-                        final Class<?> subType = getGenericType(field, 1);
-                        if (subType == null) {
-                            throw new SurrealException("Unsupported field type: " + field);
+                    for (final Map.Entry<String, Value> mapEntry : value.getObject().toMap().entrySet()) {
+                        final String entryKey = mapEntry.getKey();
+                        final Value entryValue = mapEntry.getValue();
+                        // todo - array support
+                        final ValueKind entryKind = entryValue.getKind();
+                        if (entryKind == ValueKind.OBJECT) {
+                            map.put(entryKey, convert(subType, entryValue.getObject()));
+                        } else {
+                            map.put(entryKey, convertSingleValue(entryValue, entryKind));
                         }
-                        for (final Entry mapEntry : value.getObject()) {
-                            final String entryKey = mapEntry.getKey();
-                            final Value entryValue = mapEntry.getValue();
-                            // todo - array support
-                            if (entryValue.isObject()) {
-                                map.put(entryKey, convert(subType, entryValue.getObject()));
-                            } else {
-                                map.put(entryKey, convertSingleValue(entryValue));
-                            }
-                        }
-                        setFieldObject(field, type, target, map);
-                    } else {
-                        java.lang.Object o = convert(type, value.getObject());
-                        setFieldObject(field, type, target, o);
                     }
+                    setFieldObject(field, type, target, map);
                 } else {
-                    setFieldSingleValue(field, type, target, value);
+                    java.lang.Object o = convert(type, value.getObject());
+                    setFieldObject(field, type, target, o);
                 }
-            } catch (NoSuchFieldException e) {
-                // Safe to ignore
+            } else {
+                setFieldSingleValue(field, type, target, value, kind);
             }
         }
         return target;
     }
 
-    private static <T, V> void setFieldObject(Field field, Class<?> type, T target, V value) throws ReflectiveOperationException {
+    private static <T, V> void setFieldObject(ClassMapper.FieldMapper field, Class<?> type, T target, V value) throws ReflectiveOperationException {
         if (Optional.class.equals(type)) {
             field.set(target, Optional.of(value));
         } else {
@@ -171,55 +191,30 @@ class ValueClassConverter<T> {
         }
     }
 
-    private static <T, V> void setFieldSingleValue(Field field, Class<?> type, T target, Value value) throws ReflectiveOperationException {
+    private static <T> void setFieldSingleValue(ClassMapper.FieldMapper field, Class<?> type, T target, Value value, ValueKind kind) throws ReflectiveOperationException {
         if (Optional.class.equals(type)) {
-            final java.lang.Object converted = convertSingleValue(value);
+            final java.lang.Object converted = convertSingleValue(value, kind);
             if (converted == null) {
                 field.set(target, Optional.empty());
             } else {
                 field.set(target, Optional.of(converted));
             }
         } else {
-            setSingleValue(field, type, target, value);
-        }
-    }
-
-    static Class<?> getGenericType(final Field field, final int index) {
-        // Check if the field is parameterized
-        if (field.getGenericType() instanceof ParameterizedType) {
-            ParameterizedType parameterizedType = (ParameterizedType) field.getGenericType();
-
-            // Get the actual type arguments (generics)
-            final Type[] actualTypeArguments = parameterizedType.getActualTypeArguments();
-
-            if (actualTypeArguments.length > index) {
-                // Return the first type argument
-                return (Class<?>) actualTypeArguments[index];
-            }
+            setSingleValue(field, type, target, value, kind);
         }
-        return null;
-    }
-
-    static Field getInheritedDeclaredField(Class<?> clazz, String fieldName) throws NoSuchFieldException {
-        while (clazz != null) {
-            try {
-                return clazz.getDeclaredField(fieldName);
-            } catch (NoSuchFieldException e) {
-                clazz = clazz.getSuperclass();
-            }
-        }
-        throw new NoSuchFieldException("Field '" + fieldName + "' not found in class hierarchy.");
     }
 
     final T convert(final Value value) {
         try {
-            if (value.isNone() || value.isNull())
-                return null;
-
-            if (!value.isObject())
-                throw new SurrealException("Unexpected value: " + value);
-
-            return convert(clazz, value.getObject());
+            switch (value.getKind()) {
+                case NONE:
+                case NULL:
+                    return null;
+                case OBJECT:
+                    return convert(clazz, value.getObject());
+                default:
+                    throw new SurrealException("Unexpected value: " + value);
+            }
         } catch (ReflectiveOperationException e) {
             throw new SurrealException("Failed to create instance of " + clazz.getName(), e);
         }
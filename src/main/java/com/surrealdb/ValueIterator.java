@@ -1,6 +1,7 @@
 package com.surrealdb;
 
 import java.util.Iterator;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 
 /**
@@ -17,13 +18,20 @@ import java.util.Objects;
  */
 public class ValueIterator extends Native implements Iterator<Value> {
 
+    // The number of elements fetched by each native call
+    static final int BATCH_SIZE = 256;
+
+    // The elements already fetched, and not yet returned
+    private Value[] batch = new Value[0];
+    private int batchPos;
+
     ValueIterator(long ptr) {
         super(ptr);
     }
 
     private static native boolean hasNext(long ptr);
 
-    private static native long next(long ptr);
+    private static native long[] nextBatch(long ptr, int max);
 
     @Override
     final String toString(long ptr) {
@@ -45,11 +53,56 @@ public class ValueIterator extends Native implements Iterator<Value> {
 
     @Override
     public boolean hasNext() {
-        return hasNext(getPtr());
+        return batchPos < batch.length || hasNext(getPtr());
     }
 
+    /**
+     * Returns the next element. The elements are fetched from the native iterator {@value #BATCH_SIZE} at a time.
+     *
+     * @return the next element
+     */
     @Override
     public Value next() {
-        return new Value(next(getPtr()));
+        if (batchPos == batch.length) {
+            fetch(BATCH_SIZE);
+        }
+        if (batchPos == batch.length) {
+            throw new NoSuchElementException();
+        }
+        final Value value = batch[batchPos];
+        batch[batchPos++] = null;
+        return value;
+    }
+
+    /**
+     * Fills the given array with the next elements, fetched in a single native call.
+     *
+     * @param buf the array receiving the elements, from its first index
+     * @return the number of elements written to the array, which is less than its length only
+     * when the iteration is over
+     */
+    public int nextBatch(Value[] buf) {
+        int count = 0;
+        while (count < buf.length && batchPos < batch.length) {
+            buf[count++] = batch[batchPos];
+            batch[batchPos++] = null;
+        }
+        if (count < buf.length) {
+            for (final long ptr : nextBatch(getPtr(), buf.length - count)) {
+                buf[count++] = new Value(ptr);
+            }
+        }
+        return count;
+    }
+
+    private void fetch(int max) {
+        final long[] ptrs = nextBatch(getPtr(), max);
+        // Each handle is wrapped at once, so that it is released even if the iteration is abandoned
+        final Value[] values = new Value[ptrs.length];
+        for (int i = 0; i < ptrs.length; i++) {
+            values[i] = new Value(ptrs[i]);
+        }
+        batch = values;
+        batchPos = 0;
     }
 }
@@ -0,0 +1,34 @@
+package com.surrealdb;
+
+/**
+ * The type of a {@link Value}, as returned by {@link Value#getKind()}.
+ */
+public enum ValueKind {
+
+    NONE,
+    NULL,
+    BOOLEAN,
+    LONG,
+    DOUBLE,
+    BIGDECIMAL,
+    STRING,
+    DURATION,
+    DATETIME,
+    UUID,
+    ARRAY,
+    OBJECT,
+    GEOMETRY,
+    BYTES,
+    THING,
+    /**
+     * Any other SurrealQL type, such as a range, a table or a future.
+     */
+    OTHER;
+
+    // The native library returns the ordinal of the kind
+    private static final ValueKind[] KINDS = values();
+
+    static ValueKind of(int ordinal) {
+        return KINDS[ordinal];
+    }
+}
@@ -1,6 +1,7 @@
 package com.surrealdb;
 
 import java.math.BigDecimal;
+import java.nio.ByteBuffer;
 import java.time.Duration;
 import java.time.ZonedDateTime;
 import java.util.List;
@@ -32,6 +33,14 @@ public class ValueMut extends Native {
 
     private static native long newUuid(String s);
 
+    private static native long newBytesDirect(ByteBuffer buffer, int position, int length);
+
+    private static native long newBytesArray(byte[] array, int offset, int length);
+
+    private static native long[] fromCborDirect(ByteBuffer buffer, int position, int length);
+
+    private static native long[] fromCborArray(byte[] array, int offset, int length);
+
     private static native long newId(long ptr);
 
     private static native long newThing(long ptr);
@@ -84,6 +93,75 @@ public class ValueMut extends Native {
         return new ValueMut(newUuid(uuid.toString()));
     }
 
+    public static ValueMut createBytes(byte[] bytes) {
+        return new ValueMut(newBytesArray(bytes, 0, bytes.length));
+    }
+
+    /**
+     * Creates a bytes value from the remaining bytes of the buffer, and advances its position to its limit.
+     * <p>
+     * A direct buffer is read by the native library without any intermediate copy.
+     *
+     * @param buffer the buffer holding the bytes
+     * @return the new value
+     */
+    public static ValueMut createBytes(ByteBuffer buffer) {
+        final int position = buffer.position();
+        final int length = buffer.remaining();
+        final ValueMut value;
+        if (buffer.isDirect()) {
+            value = new ValueMut(newBytesDirect(buffer, position, length));
+        } else if (buffer.hasArray()) {
+            value = new ValueMut(newBytesArray(buffer.array(), buffer.arrayOffset() + position, length));
+        } else {
+            // A read-only heap buffer does not expose its array
+            final byte[] bytes = new byte[length];
+            buffer.duplicate().get(bytes);
+            value = new ValueMut(newBytesArray(bytes, 0, length));
+        }
+        buffer.position(position + length);
+        return value;
+    }
+
+    /**
+     * Decodes a value encoded in the CBOR format used by the SurrealDB protocol.
+     *
+     * @param bytes the encoded value
+     * @return the decoded value
+     * @see Value#toCbor()
+     */
+    public static ValueMut fromCbor(byte[] bytes) {
+        return new ValueMut(fromCborArray(bytes, 0, bytes.length)[0]);
+    }
+
+    /**
+     * Decodes the value encoded in the CBOR format at the position of the buffer, and advances its position
+     * past the encoded value, so that consecutive values can be read from the same buffer.
+     * <p>
+     * A direct buffer is read by the native library without any intermediate copy.
+     *
+     * @param buffer the buffer holding the encoded value
+     * @return the decoded value
+     * @see Value#writeCbor(ByteBuffer)
+     */
+    public static ValueMut fromCbor(ByteBuffer buffer) {
+        final int position = buffer.position();
+        final int length = buffer.remaining();
+        final long[] res;
+        if (buffer.isDirect()) {
+            res = fromCborDirect(buffer, position, length);
+        } else if (buffer.hasArray()) {
+            res = fromCborArray(buffer.array(), buffer.arrayOffset() + position, length);
+        } else {
+            // A read-only heap buffer does not expose its array
+            final byte[] bytes = new byte[length];
+            buffer.duplicate().get(bytes);
+            res = fromCborArray(bytes, 0, length);
+        }
+        buffer.position(position + (int) res[1]);
+        return new ValueMut(res[0]);
+    }
+
     public static ValueMut createId(Id id) {
         return new ValueMut(newId(id.getPtr()));
     }
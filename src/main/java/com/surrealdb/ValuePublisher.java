@@ -0,0 +1,142 @@
+package com.surrealdb;
+
+import com.surrealdb.reactive.Publisher;
+import com.surrealdb.reactive.Subscriber;
+import com.surrealdb.reactive.Subscription;
+
+import java.util.Iterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * A cold Publisher emitting the values of a sequence of pages.
+ * <p>
+ * Each subscription pulls its own pages, and a page is only fetched once the previous one
+ * has been consumed and there is outstanding demand, so at most one page is held in memory.
+ *
+ * @param <T> the type of the published elements
+ */
+class ValuePublisher<T> implements Publisher<T> {
+
+    /**
+     * Returns the next page, or a future completed with null once there are no more pages.
+     */
+    interface PageSource {
+        CompletableFuture<Iterator<Value>> next();
+    }
+
+    private final Supplier<PageSource> sources;
+    private final Function<Value, T> mapper;
+
+    ValuePublisher(Supplier<PageSource> sources, Function<Value, T> mapper) {
+        this.sources = sources;
+        this.mapper = mapper;
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super T> subscriber) {
+        final PageSubscription<T> subscription = new PageSubscription<>(subscriber, mapper);
+        subscriber.onSubscribe(subscription);
+        try {
+            subscription.source = sources.get();
+        } catch (Throwable e) {
+            subscription.error = e;
+        }
+        subscription.drain();
+    }
+
+    private static final class PageSubscription<T> implements Subscription {
+
+        private final Subscriber<? super T> subscriber;
+        private final Function<Value, T> mapper;
+        private final AtomicLong demand = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+        private volatile PageSource source;
+        private volatile Iterator<Value> page;
+        private volatile boolean fetching;
+        private volatile boolean exhausted;
+        private volatile boolean cancelled;
+        private volatile Throwable error;
+
+        PageSubscription(Subscriber<? super T> subscriber, Function<Value, T> mapper) {
+            this.subscriber = subscriber;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                error = new IllegalArgumentException("The number of requested elements must be positive: " + n);
+            } else {
+                // Saturate at Long.MAX_VALUE, which stands for an unbounded demand
+                demand.getAndUpdate(d -> d + n < 0 ? Long.MAX_VALUE : d + n);
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+
+        private void onPage(Iterator<Value> next, Throwable e) {
+            if (e != null) {
+                error = e;
+            } else if (next == null) {
+                exhausted = true;
+            } else {
+                page = next;
+            }
+            fetching = false;
+            drain();
+        }
+
+        // Only one thread at a time runs the loop, the others just signal that it must run again
+        void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            do {
+                while (!cancelled && (source != null || error != null)) {
+                    if (error != null) {
+                        cancelled = true;
+                        subscriber.onError(error);
+                        break;
+                    }
+                    final Iterator<Value> current = page;
+                    if (current != null && current.hasNext()) {
+                        if (demand.get() == 0) {
+                            break;
+                        }
+                        final T item;
+                        try {
+                            item = mapper.apply(current.next());
+                        } catch (Throwable e) {
+                            error = e;
+                            continue;
+                        }
+                        if (demand.get() != Long.MAX_VALUE) {
+                            demand.decrementAndGet();
+                        }
+                        subscriber.onNext(item);
+                    } else if (exhausted) {
+                        cancelled = true;
+                        subscriber.onComplete();
+                        break;
+                    } else if (!fetching && demand.get() > 0) {
+                        page = null;
+                        fetching = true;
+                        source.next().whenComplete(this::onPage);
+                    } else {
+                        break;
+                    }
+                }
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.surrealdb.reactive;
+
+/**
+ * The Publisher interface is a provider of a potentially unbounded number of elements,
+ * publishing them according to the demand received from its Subscriber(s).
+ * <p>
+ * It mirrors {@code java.util.concurrent.Flow.Publisher}, which is not available on Java 8,
+ * so adapting it to Reactive Streams or Flow only requires forwarding the calls.
+ *
+ * @param <T> the type of the published elements
+ */
+public interface Publisher<T> {
+
+    /**
+     * Requests the Publisher to start streaming elements to the given Subscriber.
+     *
+     * @param subscriber the Subscriber that will consume the elements
+     */
+    void subscribe(Subscriber<? super T> subscriber);
+}
@@ -0,0 +1,36 @@
+package com.surrealdb.reactive;
+
+/**
+ * The Subscriber interface receives the elements published by a {@link Publisher}.
+ * No element is sent until {@link Subscription#request(long)} is called.
+ *
+ * @param <T> the type of the received elements
+ */
+public interface Subscriber<T> {
+
+    /**
+     * Called once after {@link Publisher#subscribe(Subscriber)}, before any other method.
+     *
+     * @param subscription the subscription used to request elements or to cancel
+     */
+    void onSubscribe(Subscription subscription);
+
+    /**
+     * Called for each element, never more often than requested.
+     *
+     * @param item the next element
+     */
+    void onNext(T item);
+
+    /**
+     * Called once when the stream failed. No further method is called.
+     *
+     * @param throwable the cause of the failure
+     */
+    void onError(Throwable throwable);
+
+    /**
+     * Called once when every element has been delivered. No further method is called.
+     */
+    void onComplete();
+}
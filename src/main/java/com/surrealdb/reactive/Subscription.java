@@ -0,0 +1,20 @@
+package com.surrealdb.reactive;
+
+/**
+ * The Subscription interface links a {@link Subscriber} to a {@link Publisher}.
+ * It is used to signal demand and to cancel the stream.
+ */
+public interface Subscription {
+
+    /**
+     * Adds the given number of elements to the current unfulfilled demand.
+     *
+     * @param n the strictly positive number of elements to request
+     */
+    void request(long n);
+
+    /**
+     * Requests the Publisher to stop sending elements and to release its resources.
+     */
+    void cancel();
+}
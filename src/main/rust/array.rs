@@ -1,15 +1,20 @@
 use std::hash::{DefaultHasher, Hash, Hasher};
 use std::ptr::null_mut;
-use std::sync::Arc;
 
-use jni::objects::JClass;
-use jni::sys::{jboolean, jint, jlong, jstring};
+use jni::objects::{JBooleanArray, JClass, JDoubleArray, JLongArray, JObject, JObjectArray, JString};
+use jni::sys::{jboolean, jdoubleArray, jint, jlong, jlongArray, jobjectArray, jstring};
 use jni::JNIEnv;
 use parking_lot::Mutex;
-use surrealdb::sql::Value;
+use rust_decimal::prelude::ToPrimitive;
+use surrealdb::sql::{Array, Number, Value};
 
 use crate::error::SurrealError;
-use crate::{get_value_instance, new_string, release_instance, JniTypes};
+use crate::sharedvalue::SharedValue;
+use crate::valueiterator::ValueIter;
+use crate::{
+    get_rust_string, get_value_instance, new_jlong_array, new_string, release_instance,
+    write_string_array, JniTypes,
+};
 
 #[no_mangle]
 pub extern "system" fn Java_com_surrealdb_Array_deleteInstance<'local>(
@@ -17,7 +22,7 @@ pub extern "system" fn Java_com_surrealdb_Array_deleteInstance<'local>(
     _class: JClass<'local>,
     ptr: jlong,
 ) -> jboolean {
-    release_instance::<Arc<Value>>(ptr);
+    release_instance::<SharedValue>(ptr);
     true as jboolean
 }
 
@@ -58,9 +63,10 @@ pub extern "system" fn Java_com_surrealdb_Array_get<'local>(
     idx: jint,
 ) -> jlong {
     let value = get_value_instance!(&mut env, ptr, || 0);
-    if let Value::Array(a) = value.as_ref() {
-        let val = a.get(idx as usize).cloned().unwrap_or(Value::None);
-        JniTypes::new_value(val.into())
+    if value.is_array() {
+        // The element shares the tree of the array
+        let val = value.index(idx as usize).unwrap_or_else(|| Value::None.into());
+        JniTypes::new_value(val)
     } else {
         SurrealError::NullPointerException("Array").exception(&mut env, || 0)
     }
@@ -73,14 +79,28 @@ pub extern "system" fn Java_com_surrealdb_Array_iterator<'local>(
     ptr: jlong,
 ) -> jlong {
     let value = get_value_instance!(&mut env, ptr, || 0);
-    if let Value::Array(a) = value.as_ref() {
-        let iter = a.0.clone().into_iter();
-        JniTypes::new_array_iter(iter)
+    if value.is_array() {
+        JniTypes::new_array_iter(ValueIter::shared(value))
     } else {
         SurrealError::NullPointerException("Array").exception(&mut env, || 0)
     }
 }
 
+#[no_mangle]
+pub extern "system" fn Java_com_surrealdb_Array_elements<'local>(
+    mut env: JNIEnv<'local>,
+    _class: JClass<'local>,
+    ptr: jlong,
+) -> jlongArray {
+    let value = get_value_instance!(&mut env, ptr, null_mut);
+    if value.is_array() {
+        let ptrs: Vec<jlong> = value.elements().map(JniTypes::new_value).collect();
+        new_jlong_array!(&mut env, &ptrs, null_mut)
+    } else {
+        SurrealError::NullPointerException("Array").exception(&mut env, null_mut)
+    }
+}
+
 #[no_mangle]
 pub extern "system" fn Java_com_surrealdb_Array_synchronizedIterator<'local>(
     mut env: JNIEnv<'local>,
@@ -88,9 +108,8 @@ pub extern "system" fn Java_com_surrealdb_Array_synchronizedIterator<'local>(
     ptr: jlong,
 ) -> jlong {
     let value = get_value_instance!(&mut env, ptr, || 0);
-    if let Value::Array(a) = value.as_ref() {
-        let iter = a.0.clone().into_iter();
-        JniTypes::new_sync_array_iter(Mutex::new(iter).into())
+    if value.is_array() {
+        JniTypes::new_sync_array_iter(Mutex::new(ValueIter::shared(value)).into())
     } else {
         SurrealError::NullPointerException("Array").exception(&mut env, || 0)
     }
@@ -140,3 +159,279 @@ pub extern "system" fn Java_com_surrealdb_Array_equals<'local>(
     }
     SurrealError::NullPointerException("Array").exception(&mut env, || false as jboolean)
 }
+
+// The column types, matching the codes expected by the Java `Column` class
+const COLUMN_LONG: jint = 1;
+const COLUMN_DOUBLE: jint = 2;
+const COLUMN_STRING: jint = 3;
+
+/// Returns the value of the field in the row, or None when it is missing, NONE or NULL.
+fn column_cell<'a>(row: &'a Value, field: &str) -> Result<Option<&'a Value>, SurrealError> {
+    match row {
+        Value::Object(o) => Ok(o.get(field).filter(|v| !matches!(v, Value::None | Value::Null))),
+        _ => Err(SurrealError::SurrealDBJni(format!(
+            "Expected an object but got: {row}"
+        ))),
+    }
+}
+
+fn column_error(field: &str, idx: usize, expected: &str, value: &Value) -> SurrealError {
+    SurrealError::SurrealDBJni(format!(
+        "Expected {expected} for the field '{field}' of row {idx} but got: {value}"
+    ))
+}
+
+fn as_long(value: &Value) -> Option<i64> {
+    match value {
+        Value::Number(Number::Int(i)) => Some(*i),
+        _ => None,
+    }
+}
+
+fn as_double(value: &Value) -> Option<f64> {
+    match value {
+        Value::Number(Number::Int(i)) => Some(*i as f64),
+        Value::Number(Number::Float(f)) => Some(*f),
+        Value::Number(Number::Decimal(d)) => d.to_f64(),
+        _ => None,
+    }
+}
+
+fn as_str(value: &Value) -> Option<&str> {
+    match value {
+        Value::Strand(s) => Some(s.as_str()),
+        _ => None,
+    }
+}
+
+/// Reads the field of each row, converted by `convert`.
+/// Missing values are set to the default value, and flagged in the returned null mask.
+fn read_column<'a, T: Default>(
+    a: &'a Array,
+    field: &str,
+    expected: &str,
+    convert: impl Fn(&'a Value) -> Option<T>,
+) -> Result<(Vec<T>, Vec<jboolean>), SurrealError> {
+    let mut values = Vec::with_capacity(a.len());
+    let mut nulls = Vec::with_capacity(a.len());
+    for (idx, row) in a.iter().enumerate() {
+        match column_cell(row, field)? {
+            Some(v) => {
+                values.push(convert(v).ok_or_else(|| column_error(field, idx, expected, v))?);
+                nulls.push(false as jboolean);
+            }
+            None => {
+                values.push(T::default());
+                nulls.push(true as jboolean);
+            }
+        }
+    }
+    Ok((values, nulls))
+}
+
+fn get_array<'a>(value: &'a Value) -> Result<&'a Array, SurrealError> {
+    match value {
+        Value::Array(a) => Ok(a),
+        _ => Err(SurrealError::NullPointerException("Array")),
+    }
+}
+
+#[no_mangle]
+pub extern "system" fn Java_com_surrealdb_Array_columnType<'local>(
+    mut env: JNIEnv<'local>,
+    _class: JClass<'local>,
+    ptr: jlong,
+    field: JString<'local>,
+) -> jint {
+    let value = get_value_instance!(&mut env, ptr, || 0);
+    let field = get_rust_string!(&mut env, field, || 0);
+    let res = get_array(&value).and_then(|a| {
+        let mut typ = None;
+        for (idx, row) in a.iter().enumerate() {
+            if let Some(v) = column_cell(row, &field)? {
+                let t = match v {
+                    Value::Number(Number::Int(_)) => COLUMN_LONG,
+                    Value::Number(_) => COLUMN_DOUBLE,
+                    Value::Strand(_) => COLUMN_STRING,
+                    _ => return Err(column_error(&field, idx, "a number or a string", v)),
+                };
+                typ = Some(match typ {
+                    None => t,
+                    Some(COLUMN_STRING) if t == COLUMN_STRING => COLUMN_STRING,
+                    Some(COLUMN_STRING) => return Err(column_error(&field, idx, "a string", v)),
+                    Some(_) if t == COLUMN_STRING => {
+                        return Err(column_error(&field, idx, "a number", v))
+                    }
+                    // Integers are widened to doubles when the column also holds other numbers
+                    Some(p) => p.max(t),
+                });
+            }
+        }
+        // A column without any value is reported as a column of longs
+        Ok(typ.unwrap_or(COLUMN_LONG))
+    });
+    match res {
+        Ok(typ) => typ,
+        Err(e) => e.exception(&mut env, || 0),
+    }
+}
+
+#[no_mangle]
+pub extern "system" fn Java_com_surrealdb_Array_columnLongs<'local>(
+    mut env: JNIEnv<'local>,
+    _class: JClass<'local>,
+    ptr: jlong,
+    field: JString<'local>,
+    out: JLongArray<'local>,
+    nulls: JBooleanArray<'local>,
+) {
+    let value = get_value_instance!(&mut env, ptr, || ());
+    let field = get_rust_string!(&mut env, field, || ());
+    let res = get_array(&value).and_then(|a| read_column(a, &field, "a long", as_long));
+    match res {
+        Ok((values, mask)) => {
+            if let Err(e) = env
+                .set_long_array_region(&out, 0, &values)
+                .and_then(|_| env.set_boolean_array_region(&nulls, 0, &mask))
+            {
+                SurrealError::from(e).exception(&mut env, || ())
+            }
+        }
+        Err(e) => e.exception(&mut env, || ()),
+    }
+}
+
+#[no_mangle]
+pub extern "system" fn Java_com_surrealdb_Array_columnDoubles<'local>(
+    mut env: JNIEnv<'local>,
+    _class: JClass<'local>,
+    ptr: jlong,
+    field: JString<'local>,
+    out: JDoubleArray<'local>,
+    nulls: JBooleanArray<'local>,
+) {
+    let value = get_value_instance!(&mut env, ptr, || ());
+    let field = get_rust_string!(&mut env, field, || ());
+    let res = get_array(&value).and_then(|a| read_column(a, &field, "a number", as_double));
+    match res {
+        Ok((values, mask)) => {
+            if let Err(e) = env
+                .set_double_array_region(&out, 0, &values)
+                .and_then(|_| env.set_boolean_array_region(&nulls, 0, &mask))
+            {
+                SurrealError::from(e).exception(&mut env, || ())
+            }
+        }
+        Err(e) => e.exception(&mut env, || ()),
+    }
+}
+
+#[no_mangle]
+pub extern "system" fn Java_com_surrealdb_Array_columnStrings<'local>(
+    mut env: JNIEnv<'local>,
+    _class: JClass<'local>,
+    ptr: jlong,
+    field: JString<'local>,
+    out: JObjectArray<'local>,
+    nulls: JBooleanArray<'local>,
+) {
+    let value = get_value_instance!(&mut env, ptr, || ());
+    let field = get_rust_string!(&mut env, field, || ());
+    let res = get_array(&value).and_then(|a| read_column(a, &field, "a string", |v| as_str(v).map(Some)));
+    let (values, mask) = match res {
+        Ok(r) => r,
+        Err(e) => return e.exception(&mut env, || ()),
+    };
+    let res = env
+        .set_boolean_array_region(&nulls, 0, &mask)
+        .and_then(|_| write_string_array(&mut env, &out, values));
+    if let Err(e) = res {
+        SurrealError::from(e).exception(&mut env, || ())
+    }
+}
+
+/// Converts every element, failing on the first element which cannot be converted.
+fn read_elements<'a, T>(
+    a: &'a Array,
+    expected: &str,
+    convert: impl Fn(&'a Value) -> Option<T>,
+) -> Result<Vec<T>, SurrealError> {
+    a.iter()
+        .enumerate()
+        .map(|(idx, v)| {
+            convert(v).ok_or_else(|| {
+                SurrealError::SurrealDBJni(format!(
+                    "Expected {expected} at index {idx} but got: {v}"
+                ))
+            })
+        })
+        .collect()
+}
+
+#[no_mangle]
+pub extern "system" fn Java_com_surrealdb_Array_toLongArray<'local>(
+    mut env: JNIEnv<'local>,
+    _class: JClass<'local>,
+    ptr: jlong,
+) -> jlongArray {
+    let value = get_value_instance!(&mut env, ptr, null_mut);
+    let res = get_array(&value).and_then(|a| read_elements(a, "a long", as_long));
+    let values = match res {
+        Ok(v) => v,
+        Err(e) => return e.exception(&mut env, null_mut),
+    };
+    let res = env.new_long_array(values.len() as i32).and_then(|array| {
+        env.set_long_array_region(&array, 0, &values)?;
+        Ok(array)
+    });
+    match res {
+        Ok(array) => array.into_raw(),
+        Err(e) => SurrealError::from(e).exception(&mut env, null_mut),
+    }
+}
+
+#[no_mangle]
+pub extern "system" fn Java_com_surrealdb_Array_toDoubleArray<'local>(
+    mut env: JNIEnv<'local>,
+    _class: JClass<'local>,
+    ptr: jlong,
+) -> jdoubleArray {
+    let value = get_value_instance!(&mut env, ptr, null_mut);
+    let res = get_array(&value).and_then(|a| read_elements(a, "a number", as_double));
+    let values = match res {
+        Ok(v) => v,
+        Err(e) => return e.exception(&mut env, null_mut),
+    };
+    let res = env.new_double_array(values.len() as i32).and_then(|array| {
+        env.set_double_array_region(&array, 0, &values)?;
+        Ok(array)
+    });
+    match res {
+        Ok(array) => array.into_raw(),
+        Err(e) => SurrealError::from(e).exception(&mut env, null_mut),
+    }
+}
+
+#[no_mangle]
+pub extern "system" fn Java_com_surrealdb_Array_toStringArray<'local>(
+    mut env: JNIEnv<'local>,
+    _class: JClass<'local>,
+    ptr: jlong,
+) -> jobjectArray {
+    let value = get_value_instance!(&mut env, ptr, null_mut);
+    let res = get_array(&value).and_then(|a| read_elements(a, "a string", as_str));
+    let values = match res {
+        Ok(v) => v,
+        Err(e) => return e.exception(&mut env, null_mut),
+    };
+    let res = env
+        .new_object_array(values.len() as i32, "java/lang/String", JObject::null())
+        .and_then(|array| {
+            write_string_array(&mut env, &array, values.into_iter().map(Some))?;
+            Ok(array)
+        });
+    match res {
+        Ok(array) => array.into_raw(),
+        Err(e) => SurrealError::from(e).exception(&mut env, null_mut),
+    }
+}
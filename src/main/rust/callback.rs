@@ -0,0 +1,112 @@
+use std::future::Future;
+
+use futures::future::{AbortHandle, Abortable};
+use jni::objects::{GlobalRef, JClass, JObject, JValue};
+use jni::sys::jlong;
+use jni::{JNIEnv, JavaVM};
+
+use crate::error::SurrealError;
+use crate::{create_instance, get_instance, release_instance, JniTypes, TOKIO_RUNTIME};
+
+/// Spawns the future on the shared runtime.
+/// The outcome is reported to the Java `NativeCallback` once the future completes.
+/// The callback receives a handle to abort the future beforehand, which is how cancellation reaches the runtime.
+pub(super) fn spawn_callback<F>(
+    env: &mut JNIEnv,
+    callback: JObject,
+    future: F,
+) -> Result<(), SurrealError>
+where
+    F: Future<Output = Result<jlong, SurrealError>> + Send + 'static,
+{
+    spawn_callback_with(env, callback, move || future)
+}
+
+/// Same as `spawn_callback`, but the future is only built once nothing can fail anymore.
+/// Values moved from Java are taken by `build`: they are only taken when the call returns normally,
+/// which is when the Java side gives up its handles.
+pub(super) fn spawn_callback_with<F, B>(
+    env: &mut JNIEnv,
+    callback: JObject,
+    build: B,
+) -> Result<(), SurrealError>
+where
+    B: FnOnce() -> F,
+    F: Future<Output = Result<jlong, SurrealError>> + Send + 'static,
+{
+    let vm = env.get_java_vm()?;
+    let global = env.new_global_ref(&callback)?;
+    let (abort, registration) = AbortHandle::new_pair();
+    let task = create_instance(abort, JniTypes::Task);
+    if let Err(e) = env.call_method(&callback, "onSpawn", "(J)V", &[JValue::Long(task)]) {
+        release_instance::<AbortHandle>(task);
+        return Err(e.into());
+    }
+    let future = build();
+    TOKIO_RUNTIME.spawn(async move {
+        // An aborted future has already been cancelled on the Java side
+        if let Ok(result) = Abortable::new(future, registration).await {
+            complete(&vm, &global, result);
+        }
+    });
+    Ok(())
+}
+
+fn complete(vm: &JavaVM, callback: &GlobalRef, result: Result<jlong, SurrealError>) {
+    with_attached_env(vm, |env| {
+        match result {
+            Ok(ptr) => {
+                env.call_method(callback, "onSuccess", "(J)V", &[JValue::Long(ptr)])?;
+            }
+            Err(e) => {
+                let msg = env.new_string(e.message())?;
+                env.call_method(
+                    callback,
+                    "onError",
+                    "(Ljava/lang/String;)V",
+                    &[JValue::Object(&msg)],
+                )?;
+            }
+        }
+        Ok(())
+    });
+}
+
+/// Runs `f` with the JNI environment of the current runtime thread.
+pub(super) fn with_attached_env<F>(vm: &JavaVM, f: F)
+where
+    F: FnOnce(&mut JNIEnv) -> Result<(), jni::errors::Error>,
+{
+    // Runtime threads are attached once and stay attached for their lifetime
+    let mut env = match vm.attach_current_thread_as_daemon() {
+        Ok(env) => env,
+        Err(_) => return,
+    };
+    // The thread never returns to Java, so local references must be released explicitly
+    let res: Result<(), jni::errors::Error> = env.with_local_frame(4, |env| f(env));
+    if res.is_err() {
+        // Never leave a pending exception on a runtime thread
+        let _ = env.exception_clear();
+    }
+}
+
+#[no_mangle]
+pub extern "system" fn Java_com_surrealdb_NativeCallback_abort<'local>(
+    _env: JNIEnv<'local>,
+    _class: JClass<'local>,
+    ptr: jlong,
+) {
+    if let Ok(abort) = get_instance::<AbortHandle>(ptr, JniTypes::Task) {
+        abort.abort();
+    }
+    release_instance::<AbortHandle>(ptr);
+}
+
+#[no_mangle]
+pub extern "system" fn Java_com_surrealdb_NativeCallback_release<'local>(
+    _env: JNIEnv<'local>,
+    _class: JClass<'local>,
+    ptr: jlong,
+) {
+    release_instance::<AbortHandle>(ptr);
+}
@@ -0,0 +1,25 @@
+use surrealdb::sql::Value;
+use surrealdb_core::rpc::format::cbor::Cbor;
+
+use crate::error::SurrealError;
+
+/// Encodes the value in the CBOR format of the SurrealDB RPC protocol,
+/// where record ids, datetimes, durations, decimals and other SurrealQL types are tagged.
+pub(super) fn encode(value: &Value) -> Result<Vec<u8>, SurrealError> {
+    let cbor = Cbor::try_from(value.clone())
+        .map_err(|e| SurrealError::SurrealDBJni(format!("Cannot encode value to CBOR: {e}")))?;
+    let mut bytes = Vec::new();
+    ciborium::into_writer(&cbor.0, &mut bytes)
+        .map_err(|e| SurrealError::SurrealDBJni(format!("Cannot encode value to CBOR: {e}")))?;
+    Ok(bytes)
+}
+
+/// Decodes the first value of the bytes, and returns it with the number of bytes it was read from.
+pub(super) fn decode(bytes: &[u8]) -> Result<(Value, usize), SurrealError> {
+    let mut reader = bytes;
+    let data: ciborium::Value = ciborium::from_reader(&mut reader)
+        .map_err(|e| SurrealError::SurrealDBJni(format!("Cannot decode CBOR: {e}")))?;
+    let value = Value::try_from(Cbor(data))
+        .map_err(|e| SurrealError::SurrealDBJni(format!("Cannot decode CBOR: {e}")))?;
+    Ok((value, bytes.len() - reader.len()))
+}
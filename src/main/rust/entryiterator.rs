@@ -1,10 +1,51 @@
 use jni::objects::JClass;
 use jni::sys::{jboolean, jlong};
 use jni::JNIEnv;
+use surrealdb::sql::Value;
 
 use crate::error::SurrealError;
+use crate::sharedvalue::SharedValue;
 use crate::{get_entry_iterator_instance, get_entry_iterator_mut_instance, JniTypes};
 
+/// The entries of a Java `Object`, in key order.
+/// The object is shared with the iterator, and the values share the same tree.
+pub(crate) struct EntryIter {
+    object: SharedValue,
+    last: Option<String>,
+    remaining: usize,
+}
+
+impl EntryIter {
+    pub(crate) fn new(object: SharedValue) -> Self {
+        let remaining = match object.as_ref() {
+            Value::Object(o) => o.len(),
+            _ => 0,
+        };
+        Self {
+            object,
+            last: None,
+            remaining,
+        }
+    }
+}
+
+impl Iterator for EntryIter {
+    type Item = (String, SharedValue);
+
+    fn next(&mut self) -> Option<(String, SharedValue)> {
+        let (key, value) = self.object.field_after(self.last.as_deref())?;
+        self.last = Some(key.clone());
+        self.remaining -= 1;
+        Some((key, value))
+    }
+
+    fn size_hint(&self) -> (usize, Option<usize>) {
+        (self.remaining, Some(self.remaining))
+    }
+}
+
+impl ExactSizeIterator for EntryIter {}
+
 #[no_mangle]
 pub extern "system" fn Java_com_surrealdb_EntryIterator_hasNext<'local>(
     mut env: JNIEnv<'local>,
@@ -23,7 +64,7 @@ pub extern "system" fn Java_com_surrealdb_EntryIterator_next<'local>(
 ) -> jlong {
     let iter = get_entry_iterator_mut_instance!(&mut env, ptr, || 0);
     if let Some((k, v)) = iter.next() {
-        JniTypes::new_key_value(k, v.into())
+        JniTypes::new_key_value(k, v)
     } else {
         SurrealError::NoSuchElementException.exception(&mut env, || 0)
     }
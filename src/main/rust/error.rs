@@ -25,6 +25,10 @@ impl SurrealError {
         output()
     }
 
+    pub(super) fn message(self) -> String {
+        self.into_exception().msg
+    }
+
     fn into_exception(self) -> Exception {
         match self {
             Self::Exception(e) => Exception {
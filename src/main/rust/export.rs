@@ -0,0 +1,183 @@
+use std::collections::BTreeMap;
+use std::fs::File;
+use std::io::{BufWriter, Write};
+
+use jni::sys::jint;
+use surrealdb::engine::any::Any;
+use surrealdb::sql::{Id, Value};
+use surrealdb::Surreal;
+
+use crate::error::SurrealError;
+use crate::surreal::{surrealdb_query_async, take_first_result};
+use crate::TOKIO_RUNTIME;
+
+const WRITE_BUFFER_SIZE: usize = 64 * 1024;
+
+const FIRST_PAGE: &str = "SELECT * FROM type::table($table) ORDER BY id LIMIT $limit";
+
+const NEXT_PAGE: &str =
+    "SELECT * FROM type::table($table) WHERE id > $last ORDER BY id LIMIT $limit";
+
+/// The format of an exported file, matching the codes of the Java `ExportFormat` enum.
+pub(super) enum ExportFormat {
+    Ndjson,
+    SurrealQl,
+}
+
+impl ExportFormat {
+    pub(super) fn from_code(code: jint) -> Result<Self, SurrealError> {
+        match code {
+            1 => Ok(Self::Ndjson),
+            2 => Ok(Self::SurrealQl),
+            _ => Err(SurrealError::SurrealDBJni(format!(
+                "Unknown export format: {code}"
+            ))),
+        }
+    }
+}
+
+/// The counters returned to Java once the export completes.
+#[derive(Default)]
+pub(super) struct ExportStats {
+    pub(super) records: u64,
+    pub(super) pages: u64,
+    pub(super) bytes: u64,
+}
+
+/// Writes the records of the table to the file, one page at a time.
+/// The pages are read in record id order, each page starting after the last id of the previous one,
+/// so only one page of records is held in memory at a time.
+/// The database may still filter and sort the table for each page, the condition is not a range scan.
+pub(super) fn export_table(
+    surreal: &Surreal<Any>,
+    table: &str,
+    path: &str,
+    format: ExportFormat,
+    page_size: usize,
+) -> Result<ExportStats, SurrealError> {
+    let file = File::create(path)
+        .map_err(|e| SurrealError::SurrealDBJni(format!("Cannot create {path}: {e}")))?;
+    let mut writer = CountingWriter {
+        inner: BufWriter::with_capacity(WRITE_BUFFER_SIZE, file),
+        bytes: 0,
+    };
+    let mut stats = ExportStats::default();
+    let mut params = BTreeMap::from([
+        ("table".to_string(), Value::from(table)),
+        ("limit".to_string(), Value::from(page_size as i64)),
+    ]);
+    loop {
+        let query = if params.contains_key("last") {
+            NEXT_PAGE
+        } else {
+            FIRST_PAGE
+        };
+        let mut response = TOKIO_RUNTIME.block_on(surrealdb_query_async(
+            surreal,
+            query,
+            Some(params.clone()),
+        ))?;
+        let rows = match take_first_result(&mut response)? {
+            Value::Array(a) => a.0,
+            result => {
+                return Err(SurrealError::SurrealDBJni(format!(
+                    "Unexpected result: {result}"
+                )))
+            }
+        };
+        if rows.is_empty() {
+            break;
+        }
+        let last = rows.len() < page_size;
+        if let Some(Value::Object(row)) = rows.last() {
+            if let Some(id) = row.get("id") {
+                params.insert("last".to_string(), id.clone());
+            }
+        }
+        stats.records += rows.len() as u64;
+        stats.pages += 1;
+        write_page(&mut writer, table, &format, rows).map_err(|e| write_error(path, e))?;
+        if last {
+            break;
+        }
+    }
+    writer.inner.flush().map_err(|e| write_error(path, e))?;
+    stats.bytes = writer.bytes;
+    Ok(stats)
+}
+
+fn write_page<W: Write>(
+    writer: &mut W,
+    table: &str,
+    format: &ExportFormat,
+    rows: Vec<Value>,
+) -> std::io::Result<()> {
+    match format {
+        ExportFormat::Ndjson => {
+            for row in rows {
+                writeln!(writer, "{}", with_raw_id(row).into_json())?;
+            }
+        }
+        ExportFormat::SurrealQl => {
+            // One statement per page, which can be replayed with an import of the whole database
+            write!(writer, "INSERT INTO {} [", surrealdb::sql::Table::from(table))?;
+            for (i, row) in rows.iter().enumerate() {
+                if i > 0 {
+                    writer.write_all(b",")?;
+                }
+                write!(writer, "\n\t{row}")?;
+            }
+            writer.write_all(b"\n];\n")?;
+        }
+    }
+    Ok(())
+}
+
+/// Replaces the record id by its key, which JSON would otherwise write as a `table:key` string.
+/// The key is then read back as the id of the record when the file is imported into a table.
+fn with_raw_id(mut row: Value) -> Value {
+    if let Value::Object(o) = &mut row {
+        let key = match o.get("id") {
+            Some(Value::Thing(t)) => raw_key(&t.id),
+            _ => None,
+        };
+        if let Some(key) = key {
+            o.insert("id".to_string(), key);
+        }
+    }
+    row
+}
+
+/// Generated and range ids have no single key, they keep their `table:key` string.
+fn raw_key(id: &Id) -> Option<Value> {
+    match id {
+        Id::Number(n) => Some(Value::from(*n)),
+        Id::String(s) => Some(Value::from(s.as_str())),
+        Id::Uuid(u) => Some(Value::Uuid(*u)),
+        Id::Array(a) => Some(Value::Array(a.clone())),
+        Id::Object(o) => Some(Value::Object(o.clone())),
+        _ => None,
+    }
+}
+
+fn write_error(path: &str, e: std::io::Error) -> SurrealError {
+    SurrealError::SurrealDBJni(format!("Cannot write {path}: {e}"))
+}
+
+/// Counts the bytes written to the file.
+struct CountingWriter<W> {
+    inner: W,
+    bytes: u64,
+}
+
+impl<W: Write> Write for CountingWriter<W> {
+    fn write(&mut self, buf: &[u8]) -> std::io::Result<usize> {
+        let n = self.inner.write(buf)?;
+        self.bytes += n as u64;
+        Ok(n)
+    }
+
+    fn flush(&mut self) -> std::io::Result<()> {
+        self.inner.flush()
+    }
+}
@@ -0,0 +1,282 @@
+use std::collections::BTreeMap;
+use std::fs::File;
+use std::io::{BufRead, BufReader};
+use std::mem;
+
+use jni::sys::jint;
+use surrealdb::engine::any::Any;
+use surrealdb::sql::{Object, Value};
+use surrealdb::Surreal;
+
+use crate::error::SurrealError;
+use crate::surreal::{surrealdb_query_async, take_first_result};
+use crate::TOKIO_RUNTIME;
+
+const READ_BUFFER_SIZE: usize = 64 * 1024;
+
+/// The format of an imported file, matching the codes of the Java `ImportFormat` enum.
+pub(super) enum ImportFormat {
+    Ndjson,
+    Csv,
+}
+
+impl ImportFormat {
+    pub(super) fn from_code(code: jint) -> Result<Self, SurrealError> {
+        match code {
+            1 => Ok(Self::Ndjson),
+            2 => Ok(Self::Csv),
+            _ => Err(SurrealError::SurrealDBJni(format!(
+                "Unknown import format: {code}"
+            ))),
+        }
+    }
+}
+
+/// The counters returned to Java once the import completes.
+#[derive(Default)]
+pub(super) struct ImportStats {
+    pub(super) records: u64,
+    pub(super) batches: u64,
+    pub(super) bytes: u64,
+}
+
+/// Streams the records of the file into the table.
+/// The file is read line by line, so only one batch of records is held in memory at a time.
+/// The import stops at the first error; the batches inserted before are kept.
+pub(super) fn import_file(
+    surreal: &Surreal<Any>,
+    path: &str,
+    table: &Value,
+    format: ImportFormat,
+    batch_size: usize,
+) -> Result<ImportStats, SurrealError> {
+    let file = File::open(path)
+        .map_err(|e| SurrealError::SurrealDBJni(format!("Cannot open {path}: {e}")))?;
+    let mut reader = RecordReader {
+        reader: BufReader::with_capacity(READ_BUFFER_SIZE, file),
+        format,
+        header: None,
+        line: 0,
+        bytes: 0,
+    };
+    let query = format!("INSERT INTO {table} $vals RETURN NONE");
+    let mut stats = ImportStats::default();
+    let mut batch = Vec::with_capacity(batch_size);
+    // The lines of the first and last records of the batch
+    let mut lines = (0, 0);
+    loop {
+        let record = reader.next_record()?;
+        let done = record.is_none();
+        if let Some(record) = record {
+            if batch.is_empty() {
+                lines.0 = reader.line;
+            }
+            lines.1 = reader.line;
+            batch.push(record);
+        }
+        if batch.len() >= batch_size || (done && !batch.is_empty()) {
+            let records = mem::replace(&mut batch, Vec::with_capacity(batch_size));
+            stats.records += records.len() as u64;
+            insert_batch(surreal, &query, records).map_err(|e| batch_error(e, lines))?;
+            stats.batches += 1;
+        }
+        if done {
+            stats.bytes = reader.bytes;
+            return Ok(stats);
+        }
+    }
+}
+
+fn insert_batch(surreal: &Surreal<Any>, query: &str, records: Vec<Value>) -> Result<(), SurrealError> {
+    let params = BTreeMap::from([("vals".to_string(), Value::from(records))]);
+    let mut response =
+        TOKIO_RUNTIME.block_on(surrealdb_query_async(surreal, query, Some(params)))?;
+    // Statement errors are only reported when the result is taken
+    take_first_result(&mut response)?;
+    Ok(())
+}
+
+/// Reports the lines of the failed batch, as the error of the statement does not tell which record failed.
+fn batch_error(e: SurrealError, (first, last): (u64, u64)) -> SurrealError {
+    match e {
+        SurrealError::SurrealDB(_) | SurrealError::SurrealDBJni(_) => SurrealError::SurrealDBJni(format!(
+            "Cannot insert the records of lines {first} to {last}: {}",
+            e.message()
+        )),
+        e => e,
+    }
+}
+
+struct RecordReader<R> {
+    reader: R,
+    format: ImportFormat,
+    // The column names of a CSV file, read from its first row
+    header: Option<Vec<String>>,
+    line: u64,
+    bytes: u64,
+}
+
+impl<R: BufRead> RecordReader<R> {
+    fn next_record(&mut self) -> Result<Option<Value>, SurrealError> {
+        match self.format {
+            ImportFormat::Ndjson => self.next_json(),
+            ImportFormat::Csv => self.next_csv(),
+        }
+    }
+
+    fn read_line(&mut self, buf: &mut String) -> Result<bool, SurrealError> {
+        let n = self.reader.read_line(buf).map_err(|e| {
+            SurrealError::SurrealDBJni(format!("Cannot read line {}: {e}", self.line + 1))
+        })?;
+        if n == 0 {
+            return Ok(false);
+        }
+        self.line += 1;
+        self.bytes += n as u64;
+        Ok(true)
+    }
+
+    fn next_json(&mut self) -> Result<Option<Value>, SurrealError> {
+        let mut buf = String::new();
+        loop {
+            buf.clear();
+            if !self.read_line(&mut buf)? {
+                return Ok(None);
+            }
+            let text = buf.trim();
+            if text.is_empty() {
+                continue;
+            }
+            let value = surrealdb::sql::json(text).map_err(|e| {
+                SurrealError::SurrealDBJni(format!("Invalid JSON on line {}: {e}", self.line))
+            })?;
+            return Ok(Some(value));
+        }
+    }
+
+    fn next_csv(&mut self) -> Result<Option<Value>, SurrealError> {
+        if self.header.is_none() {
+            match self.read_csv_row()? {
+                Some(columns) => {
+                    let mut header: Vec<String> = columns.into_iter().map(|(c, _)| c).collect();
+                    // Drop the byte order mark written by some spreadsheets
+                    if let Some(first) = header.first_mut() {
+                        if let Some(stripped) = first.strip_prefix('\u{feff}') {
+                            *first = stripped.to_string();
+                        }
+                    }
+                    self.header = Some(header);
+                }
+                None => return Ok(None),
+            }
+        }
+        let row = match self.read_csv_row()? {
+            Some(row) => row,
+            None => return Ok(None),
+        };
+        let header = self.header.as_ref().unwrap();
+        if row.len() != header.len() {
+            return Err(SurrealError::SurrealDBJni(format!(
+                "Expected {} fields but found {} on line {}",
+                header.len(),
+                row.len(),
+                self.line
+            )));
+        }
+        let mut object = BTreeMap::new();
+        for (name, (field, quoted)) in header.iter().zip(row) {
+            // Empty fields are left out of the record
+            if let Some(value) = csv_value(field, quoted) {
+                object.insert(name.clone(), value);
+            }
+        }
+        Ok(Some(Value::Object(Object::from(object))))
+    }
+
+    /// Reads one RFC 4180 row, skipping blank lines.
+    /// Each field is returned with whether it was quoted.
+    /// Quoted fields may contain commas, escaped quotes and line breaks.
+    fn read_csv_row(&mut self) -> Result<Option<Vec<(String, bool)>>, SurrealError> {
+        let mut buf = String::new();
+        loop {
+            let mut fields = Vec::new();
+            let mut field = String::new();
+            let mut quoted = false;
+            let mut in_quotes = false;
+            let start = self.line + 1;
+            loop {
+                buf.clear();
+                if !self.read_line(&mut buf)? {
+                    if in_quotes {
+                        return Err(SurrealError::SurrealDBJni(format!(
+                            "Unterminated quoted field starting on line {start}"
+                        )));
+                    }
+                    if fields.is_empty() && field.is_empty() {
+                        return Ok(None);
+                    }
+                    break;
+                }
+                let mut chars = buf.chars().peekable();
+                while let Some(c) = chars.next() {
+                    if in_quotes {
+                        if c == '"' {
+                            if chars.peek() == Some(&'"') {
+                                field.push('"');
+                                chars.next();
+                            } else {
+                                in_quotes = false;
+                            }
+                        } else {
+                            field.push(c);
+                        }
+                    } else {
+                        match c {
+                            '"' => {
+                                in_quotes = true;
+                                quoted = true;
+                            }
+                            ',' => {
+                                fields.push((mem::take(&mut field), quoted));
+                                quoted = false;
+                            }
+                            '\r' | '\n' => {}
+                            _ => field.push(c),
+                        }
+                    }
+                }
+                if !in_quotes {
+                    break;
+                }
+            }
+            if fields.is_empty() && field.is_empty() && !quoted {
+                continue;
+            }
+            fields.push((field, quoted));
+            return Ok(Some(fields));
+        }
+    }
+}
+
+/// Quoted fields are always strings, other fields are read as numbers or booleans when they parse as such.
+fn csv_value(field: String, quoted: bool) -> Option<Value> {
+    if quoted {
+        return Some(Value::from(field));
+    }
+    if field.is_empty() {
+        return None;
+    }
+    if let Ok(i) = field.parse::<i64>() {
+        return Some(Value::from(i));
+    }
+    if let Ok(f) = field.parse::<f64>() {
+        if f.is_finite() {
+            return Some(Value::from(f));
+        }
+    }
+    match field.as_str() {
+        "true" => Some(Value::Bool(true)),
+        "false" => Some(Value::Bool(false)),
+        _ => Some(Value::from(field)),
+    }
+}
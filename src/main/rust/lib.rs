@@ -1,30 +1,39 @@
 use crate::error::SurrealError;
 #[cfg(debug_assertions)]
 use dashmap::DashMap;
-use jni::objects::{JObjectArray, JString};
-use jni::sys::jlong;
+use jni::objects::{JObject, JObjectArray, JString};
+use jni::sys::{jlong, jsize};
 use jni::JNIEnv;
 use once_cell::sync::Lazy;
 use parking_lot::Mutex;
-use std::collections::btree_map::IntoIter as BIntoIter;
 use std::ops::Deref;
 use std::sync::Arc;
-use std::vec::IntoIter;
 use surrealdb::sql::Value;
 use surrealdb::{Connection, Response, Surreal};
 use tokio::runtime::Runtime;
+use entryiterator::EntryIter;
+use sharedvalue::SharedValue;
+use valueiterator::ValueIter;
 
 mod array;
+mod callback;
+mod cbor;
 mod entry;
 mod entryiterator;
 mod entrymut;
 mod error;
+mod export;
 mod geometry;
 mod id;
+mod import;
+mod livesubscription;
 mod macros;
 mod object;
+mod preparedquery;
 mod recordid;
 mod response;
+mod runtime;
+mod sharedvalue;
 mod surreal;
 mod syncentryiterator;
 mod syncvalueiterator;
@@ -32,8 +41,16 @@ mod value;
 mod valueiterator;
 mod valuemut;
 
-static TOKIO_RUNTIME: Lazy<Runtime> =
-    Lazy::new(|| Runtime::new().expect("Cannot start Tokio runtime"));
+static TOKIO_RUNTIME: Lazy<Runtime> = Lazy::new(|| {
+    let (runtime, driver) = runtime::build();
+    if let Some(name) = driver {
+        std::thread::Builder::new()
+            .name(name)
+            .spawn(|| TOKIO_RUNTIME.block_on(std::future::pending::<()>()))
+            .expect("Cannot start Tokio runtime");
+    }
+    runtime
+});
 
 #[cfg(debug_assertions)]
 type Allocations = DashMap<jlong, JniTypes>;
@@ -50,6 +67,9 @@ enum JniTypes {
     ObjectIter,
     SyncObjectIter,
     Response,
+    LiveSubscription,
+    Task,
+    PreparedQuery,
 }
 
 impl JniTypes {
@@ -57,7 +77,7 @@ impl JniTypes {
         create_instance(s, Self::Surreal)
     }
 
-    fn new_value(v: Arc<Value>) -> jlong {
+    fn new_value(v: SharedValue) -> jlong {
         create_instance(v, Self::Value)
     }
 
@@ -65,15 +85,15 @@ impl JniTypes {
         create_instance(v, Self::ValueMut)
     }
 
-    fn new_array_iter(i: IntoIter<Value>) -> jlong {
-        create_instance(i, Self::ArrayIter)
+    fn new_array_iter(i: impl Into<ValueIter>) -> jlong {
+        create_instance(i.into(), Self::ArrayIter)
     }
 
-    fn new_sync_array_iter(i: Arc<Mutex<IntoIter<Value>>>) -> jlong {
+    fn new_sync_array_iter(i: Arc<Mutex<ValueIter>>) -> jlong {
         create_instance(i, Self::SyncArrayIter)
     }
 
-    fn new_key_value(key: String, value: Arc<Value>) -> jlong {
+    fn new_key_value(key: String, value: SharedValue) -> jlong {
         create_instance((key, value), Self::KeyValueEntry)
     }
 
@@ -81,11 +101,11 @@ impl JniTypes {
         create_instance((key, value), Self::KeyValueMutEntry)
     }
 
-    fn new_sync_object_iter(i: Arc<Mutex<BIntoIter<String, Value>>>) -> jlong {
+    fn new_sync_object_iter(i: Arc<Mutex<EntryIter>>) -> jlong {
         create_instance(i, Self::SyncObjectIter)
     }
 
-    fn new_object_iter(i: BIntoIter<String, Value>) -> jlong {
+    fn new_object_iter(i: EntryIter) -> jlong {
         create_instance(i, Self::ObjectIter)
     }
 
@@ -105,6 +125,9 @@ impl JniTypes {
             JniTypes::ObjectIter => "ObjectIterator",
             JniTypes::SyncObjectIter => "SynchronizedObjectIterator",
             JniTypes::Response => "Response",
+            JniTypes::LiveSubscription => "LiveSubscription",
+            JniTypes::Task => "Task",
+            JniTypes::PreparedQuery => "PreparedQuery",
         }
     }
 }
@@ -199,6 +222,26 @@ fn release_instance<T>(ptr: jlong) {
     }
 }
 
+/// Writes the strings into a Java `String[]`, a `None` writing `null`, so that a reused array keeps no stale value.
+/// The loop can be long, so the local reference of each string is released right away.
+fn write_string_array<S: AsRef<str>>(
+    env: &mut JNIEnv,
+    array: &JObjectArray,
+    strings: impl IntoIterator<Item = Option<S>>,
+) -> Result<(), jni::errors::Error> {
+    for (idx, s) in strings.into_iter().enumerate() {
+        match s {
+            Some(s) => {
+                let s = env.new_string(s.as_ref())?;
+                env.set_object_array_element(array, idx as jsize, &s)?;
+                env.delete_local_ref(s)?;
+            }
+            None => env.set_object_array_element(array, idx as jsize, JObject::null())?,
+        }
+    }
+    Ok(())
+}
+
 // Function to read a jobjectArray of Strings into a Vec<String>
 fn read_string_array(env: &mut JNIEnv, array: JObjectArray) -> Result<Vec<String>, SurrealError> {
     // Get the array length
@@ -0,0 +1,92 @@
+use futures::StreamExt;
+use jni::objects::{GlobalRef, JClass, JObject, JValue};
+use jni::sys::{jboolean, jint, jlong};
+use jni::{JNIEnv, JavaVM};
+use surrealdb::engine::any::Any;
+use surrealdb::{Action, Notification, Surreal};
+use tokio::task::JoinHandle;
+
+use crate::callback::with_attached_env;
+use crate::error::SurrealError;
+use crate::{create_instance, release_instance, JniTypes, TOKIO_RUNTIME};
+
+/// The task forwarding the notifications of a live query.
+/// Dropping it aborts the task, which drops the stream and kills the live query.
+pub(super) struct LiveTask(JoinHandle<()>);
+
+impl Drop for LiveTask {
+    fn drop(&mut self) {
+        self.0.abort();
+    }
+}
+
+/// Starts a live query on the table, and forwards each notification to the Java `LiveCallback`.
+pub(super) fn live(
+    env: &mut JNIEnv,
+    surreal: Surreal<Any>,
+    table: String,
+    callback: JObject,
+) -> Result<jlong, SurrealError> {
+    let vm = env.get_java_vm()?;
+    let callback = env.new_global_ref(callback)?;
+    // The live query is registered before returning, so errors are thrown to the caller
+    let mut stream = TOKIO_RUNTIME.block_on(async {
+        surreal
+            .select::<Vec<surrealdb::Value>>(table.as_str())
+            .live()
+            .await
+    })?;
+    let handle = TOKIO_RUNTIME.spawn(async move {
+        while let Some(notification) = stream.next().await {
+            notify(&vm, &callback, notification);
+        }
+    });
+    Ok(create_instance(LiveTask(handle), JniTypes::LiveSubscription))
+}
+
+fn notify(
+    vm: &JavaVM,
+    callback: &GlobalRef,
+    notification: Result<Notification<surrealdb::Value>, surrealdb::Error>,
+) {
+    with_attached_env(vm, |env| {
+        match notification {
+            Ok(n) => {
+                let action: jint = match n.action {
+                    Action::Create => 1,
+                    Action::Update => 2,
+                    Action::Delete => 3,
+                    _ => return Ok(()),
+                };
+                let query_id = env.new_string(n.query_id.to_string())?;
+                let ptr = JniTypes::new_value(n.data.into_inner().into());
+                env.call_method(
+                    callback,
+                    "onNotification",
+                    "(Ljava/lang/String;IJ)V",
+                    &[JValue::Object(&query_id), JValue::Int(action), JValue::Long(ptr)],
+                )?;
+            }
+            Err(e) => {
+                let msg = env.new_string(SurrealError::SurrealDB(e).message())?;
+                env.call_method(
+                    callback,
+                    "onError",
+                    "(Ljava/lang/String;)V",
+                    &[JValue::Object(&msg)],
+                )?;
+            }
+        }
+        Ok(())
+    });
+}
+
+#[no_mangle]
+pub extern "system" fn Java_com_surrealdb_LiveSubscription_deleteInstance<'local>(
+    _env: JNIEnv<'local>,
+    _class: JClass<'local>,
+    ptr: jlong,
+) -> jboolean {
+    release_instance::<LiveTask>(ptr);
+    true as jboolean
+}
@@ -41,7 +41,7 @@ macro_rules! get_response_instance {
 #[macro_export]
 macro_rules! get_value_instance {
     ($env:expr, $id:expr, $default_fn:expr) => {
-        match $crate::get_instance::<std::sync::Arc<surrealdb::sql::Value>>(
+        match $crate::get_instance::<$crate::sharedvalue::SharedValue>(
             $id,
             $crate::JniTypes::Value,
         ) {
@@ -54,7 +54,7 @@ macro_rules! get_value_instance {
 #[macro_export]
 macro_rules! get_entry_instance {
     ($env:expr, $id:expr, $default_fn:expr) => {
-        match $crate::get_instance::<(String, std::sync::Arc<surrealdb::sql::Value>)>(
+        match $crate::get_instance::<(String, $crate::sharedvalue::SharedValue)>(
             $id,
             $crate::JniTypes::KeyValueEntry,
         ) {
@@ -67,7 +67,7 @@ macro_rules! get_entry_instance {
 #[macro_export]
 macro_rules! get_value_iterator_instance {
     ($env:expr, $id:expr, $default_fn:expr) => {
-        match $crate::get_instance::<std::vec::IntoIter<surrealdb::sql::Value>>(
+        match $crate::get_instance::<$crate::valueiterator::ValueIter>(
             $id,
             $crate::JniTypes::ArrayIter,
         ) {
@@ -80,10 +80,10 @@ macro_rules! get_value_iterator_instance {
 #[macro_export]
 macro_rules! get_entry_iterator_instance {
     ($env:expr, $id:expr, $default_fn:expr) => {
-        match $crate::get_instance::<
-            std::collections::btree_map::IntoIter<String, surrealdb::sql::Value>,
-        >($id, JniTypes::ObjectIter)
-        {
+        match $crate::get_instance::<$crate::entryiterator::EntryIter>(
+            $id,
+            $crate::JniTypes::ObjectIter,
+        ) {
             Ok(s) => s,
             Err(e) => return e.exception($env, $default_fn),
         }
@@ -93,7 +93,7 @@ macro_rules! get_entry_iterator_instance {
 #[macro_export]
 macro_rules! get_value_iterator_mut_instance {
     ($env:expr, $id:expr, $default_fn:expr) => {
-        match $crate::get_instance_mut::<std::vec::IntoIter<surrealdb::sql::Value>>(
+        match $crate::get_instance_mut::<$crate::valueiterator::ValueIter>(
             $id,
             $crate::JniTypes::ArrayIter,
         ) {
@@ -106,9 +106,10 @@ macro_rules! get_value_iterator_mut_instance {
 #[macro_export]
 macro_rules! get_entry_iterator_mut_instance {
     ($env:expr, $id:expr, $default_fn:expr) => {
-        match $crate::get_instance_mut::<
-            std::collections::btree_map::IntoIter<String, surrealdb::sql::Value>,
-        >($id, $crate::JniTypes::ObjectIter)
+        match $crate::get_instance_mut::<$crate::entryiterator::EntryIter>(
+            $id,
+            $crate::JniTypes::ObjectIter,
+        )
         {
             Ok(s) => s,
             Err(e) => return e.exception($env, $default_fn),
@@ -120,7 +121,7 @@ macro_rules! get_entry_iterator_mut_instance {
 macro_rules! get_sync_value_iterator_instance {
     ($env:expr, $id:expr, $default_fn:expr) => {
         match $crate::get_instance::<
-            Arc<parking_lot::Mutex<std::vec::IntoIter<surrealdb::sql::Value>>>,
+            Arc<parking_lot::Mutex<$crate::valueiterator::ValueIter>>,
         >($id, $crate::JniTypes::SyncArrayIter)
         {
             Ok(s) => s.clone(),
@@ -133,11 +134,7 @@ macro_rules! get_sync_value_iterator_instance {
 macro_rules! get_sync_entry_iterator_instance {
     ($env:expr, $id:expr, $default_fn:expr) => {
         match $crate::get_instance::<
-            Arc<
-                parking_lot::Mutex<
-                    std::collections::btree_map::IntoIter<String, surrealdb::sql::Value>,
-                >,
-            >,
+            Arc<parking_lot::Mutex<$crate::entryiterator::EntryIter>>,
         >($id, $crate::JniTypes::SyncObjectIter)
         {
             Ok(s) => s.clone(),
@@ -265,7 +262,7 @@ macro_rules! return_value_array_first {
     ($val:expr) => {
         if let surrealdb::sql::Value::Array(ref mut a) = $val {
             if a.len() == 1 {
-                return $crate::JniTypes::new_value(Arc::new(a.remove(0)));
+                return $crate::JniTypes::new_value(a.remove(0).into());
             }
         }
     };
@@ -287,7 +284,7 @@ macro_rules! return_value_array_iter_sync {
         if let surrealdb::sql::Value::Array(a) = $val {
             let iter = a.into_iter();
             return $crate::JniTypes::new_sync_array_iter(std::sync::Arc::new(
-                parking_lot::Mutex::new(iter),
+                parking_lot::Mutex::new(iter.into()),
             ));
         }
     };
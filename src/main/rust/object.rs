@@ -2,14 +2,18 @@ use std::hash::{DefaultHasher, Hash, Hasher};
 use std::ptr::null_mut;
 use std::sync::Arc;
 
-use jni::objects::{JClass, JString};
-use jni::sys::{jboolean, jint, jlong, jstring};
+use jni::objects::{JClass, JLongArray, JObject, JObjectArray, JString};
+use jni::sys::{jboolean, jint, jlong, jobjectArray, jsize, jstring};
 use jni::JNIEnv;
 use parking_lot::Mutex;
 use surrealdb::sql::Value;
 
+use crate::entryiterator::EntryIter;
 use crate::error::SurrealError;
-use crate::{get_rust_string, get_value_instance, new_string, release_instance, JniTypes};
+use crate::sharedvalue::SharedValue;
+use crate::{
+    get_rust_string, get_value_instance, new_string, release_instance, write_string_array, JniTypes,
+};
 
 #[no_mangle]
 pub extern "system" fn Java_com_surrealdb_Object_deleteInstance<'local>(
@@ -17,7 +21,7 @@ pub extern "system" fn Java_com_surrealdb_Object_deleteInstance<'local>(
     _class: JClass<'local>,
     ptr: jlong,
 ) -> jboolean {
-    release_instance::<Arc<Value>>(ptr);
+    release_instance::<SharedValue>(ptr);
     true as jboolean
 }
 
@@ -58,16 +62,70 @@ pub extern "system" fn Java_com_surrealdb_Object_get<'local>(
     key: JString<'local>,
 ) -> jlong {
     let value = get_value_instance!(&mut env, ptr, || 0);
-    if let Value::Object(o) = value.as_ref() {
+    if value.is_object() {
         let key = get_rust_string!(&mut env, key, || 0);
-        // TODO Avoid cloning
-        let val = o.get(&key).cloned().unwrap_or(Value::None);
-        JniTypes::new_value(val.into())
+        // The field shares the tree of the object
+        let val = value.field(&key).unwrap_or_else(|| Value::None.into());
+        JniTypes::new_value(val)
     } else {
         SurrealError::NullPointerException("Object").exception(&mut env, || 0)
     }
 }
 
+#[no_mangle]
+pub extern "system" fn Java_com_surrealdb_Object_keys<'local>(
+    mut env: JNIEnv<'local>,
+    _class: JClass<'local>,
+    ptr: jlong,
+) -> jobjectArray {
+    let value = get_value_instance!(&mut env, ptr, null_mut);
+    let o = match value.as_ref() {
+        Value::Object(o) => o,
+        _ => return SurrealError::NullPointerException("Object").exception(&mut env, null_mut),
+    };
+    let res = env
+        .new_object_array(o.len() as jsize, "java/lang/String", JObject::null())
+        .and_then(|array| {
+            write_string_array(&mut env, &array, o.keys().map(Some))?;
+            Ok(array)
+        });
+    match res {
+        Ok(array) => array.into_raw(),
+        Err(e) => SurrealError::from(e).exception(&mut env, null_mut),
+    }
+}
+
+#[no_mangle]
+pub extern "system" fn Java_com_surrealdb_Object_entries<'local>(
+    mut env: JNIEnv<'local>,
+    _class: JClass<'local>,
+    ptr: jlong,
+    keys: JObjectArray<'local>,
+    values: JLongArray<'local>,
+) {
+    let value = get_value_instance!(&mut env, ptr, || ());
+    let o = match value.as_ref() {
+        Value::Object(o) => o,
+        _ => return SurrealError::NullPointerException("Object").exception(&mut env, || ()),
+    };
+    let res = (|| {
+        write_string_array(&mut env, &keys, o.keys().map(Some))?;
+        // The handles are only created once the keys are written
+        let ptrs: Vec<jlong> = value.fields().map(|(_, v)| JniTypes::new_value(v)).collect();
+        if let Err(e) = env.set_long_array_region(&values, 0, &ptrs) {
+            // The handles never reached Java, they are released here
+            for ptr in ptrs {
+                release_instance::<SharedValue>(ptr);
+            }
+            return Err(e);
+        }
+        Ok(())
+    })();
+    if let Err(e) = res {
+        SurrealError::from(e).exception(&mut env, || ())
+    }
+}
+
 #[no_mangle]
 pub extern "system" fn Java_com_surrealdb_Object_iterator<'local>(
     mut env: JNIEnv<'local>,
@@ -75,9 +133,8 @@ pub extern "system" fn Java_com_surrealdb_Object_iterator<'local>(
     ptr: jlong,
 ) -> jlong {
     let value = get_value_instance!(&mut env, ptr, || 0);
-    if let Value::Object(o) = value.as_ref() {
-        let iter = o.0.clone().into_iter();
-        JniTypes::new_object_iter(iter)
+    if value.is_object() {
+        JniTypes::new_object_iter(EntryIter::new(value))
     } else {
         SurrealError::NullPointerException("Object").exception(&mut env, || 0)
     }
@@ -90,9 +147,8 @@ pub extern "system" fn Java_com_surrealdb_Object_synchronizedIterator<'local>(
     ptr: jlong,
 ) -> jlong {
     let value = get_value_instance!(&mut env, ptr, || 0);
-    if let Value::Object(o) = value.as_ref() {
-        let iter = o.0.clone().into_iter();
-        JniTypes::new_sync_object_iter(Arc::new(Mutex::new(iter)))
+    if value.is_object() {
+        JniTypes::new_sync_object_iter(Arc::new(Mutex::new(EntryIter::new(value))))
     } else {
         SurrealError::NullPointerException("Object").exception(&mut env, || 0)
     }
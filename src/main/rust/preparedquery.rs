@@ -0,0 +1,187 @@
+use std::collections::{BTreeMap, HashMap};
+use std::sync::atomic::{AtomicU64, Ordering};
+use std::sync::Arc;
+
+use jni::objects::{JClass, JLongArray, JObject, JObjectArray, JString};
+use jni::sys::{jboolean, jlong};
+use jni::JNIEnv;
+use once_cell::sync::Lazy;
+use parking_lot::Mutex;
+use serde::Serialize;
+use surrealdb::engine::any::Any;
+use surrealdb::sql::{Query, Value};
+use surrealdb::{Response, Surreal};
+
+use crate::callback::spawn_callback_with;
+use crate::error::SurrealError;
+use crate::surreal::take_params;
+use crate::{
+    check_query_result, create_instance, get_instance, get_long_array, get_rust_string,
+    get_rust_string_array, get_surreal_instance, get_value_mut_instance, release_instance, JniTypes,
+    TOKIO_RUNTIME,
+};
+
+/// The maximum number of parsed statements kept in the cache.
+const PARSE_CACHE_CAPACITY: usize = 1024;
+
+static PARSE_CACHE: Lazy<Mutex<ParseCache>> = Lazy::new(|| Mutex::new(ParseCache::default()));
+
+/// The number of texts parsed because they were missing from the cache.
+static PARSE_COUNT: AtomicU64 = AtomicU64::new(0);
+
+/// The parsed statements, keyed by their SurrealQL text.
+/// When the cache is full, the least recently used statement is evicted.
+#[derive(Default)]
+struct ParseCache {
+    entries: HashMap<String, (Arc<Query>, u64)>,
+    tick: u64,
+}
+
+impl ParseCache {
+    fn get(&mut self, sql: &str) -> Option<Arc<Query>> {
+        self.tick += 1;
+        let tick = self.tick;
+        self.entries.get_mut(sql).map(|(query, used)| {
+            *used = tick;
+            query.clone()
+        })
+    }
+
+    fn insert(&mut self, sql: &str, query: Arc<Query>) {
+        if self.entries.len() >= PARSE_CACHE_CAPACITY && !self.entries.contains_key(sql) {
+            let oldest = self
+                .entries
+                .iter()
+                .min_by_key(|(_, (_, used))| *used)
+                .map(|(k, _)| k.clone());
+            if let Some(oldest) = oldest {
+                self.entries.remove(&oldest);
+            }
+        }
+        self.tick += 1;
+        self.entries.insert(sql.to_string(), (query, self.tick));
+    }
+}
+
+/// Returns the parsed statements of the query, from the cache when the same text has already been parsed.
+fn prepare(sql: &str) -> Result<Arc<Query>, SurrealError> {
+    if let Some(query) = PARSE_CACHE.lock().get(sql) {
+        return Ok(query);
+    }
+    // Parsed outside of the lock: concurrent misses on the same text only parse it twice
+    PARSE_COUNT.fetch_add(1, Ordering::Relaxed);
+    let query = surrealdb::sql::parse(sql).map_err(|e| SurrealError::SurrealDBJni(e.to_string()))?;
+    let query = Arc::new(query);
+    PARSE_CACHE.lock().insert(sql, query.clone());
+    Ok(query)
+}
+
+async fn execute<T>(
+    surreal: &Surreal<Any>,
+    query: &Query,
+    params: BTreeMap<String, T>,
+) -> Result<Response, surrealdb::Error>
+where
+    T: Serialize + 'static,
+{
+    // The statements are handed over already parsed. The SDK takes them by value, not behind an Arc,
+    // so each execution clones the parsed tree, which is still much cheaper than parsing the text again
+    let q = surreal.query(query.clone());
+    if params.is_empty() {
+        q.await
+    } else {
+        q.bind(params).await
+    }
+}
+
+#[no_mangle]
+pub extern "system" fn Java_com_surrealdb_PreparedQuery_newInstance<'local>(
+    mut env: JNIEnv<'local>,
+    _class: JClass<'local>,
+    sql: JString<'local>,
+) -> jlong {
+    let sql = get_rust_string!(&mut env, sql, || 0);
+    match prepare(&sql) {
+        Ok(query) => create_instance(query, JniTypes::PreparedQuery),
+        Err(e) => e.exception(&mut env, || 0),
+    }
+}
+
+#[no_mangle]
+pub extern "system" fn Java_com_surrealdb_PreparedQuery_parseCount<'local>(
+    _env: JNIEnv<'local>,
+    _class: JClass<'local>,
+) -> jlong {
+    PARSE_COUNT.load(Ordering::Relaxed) as jlong
+}
+
+#[no_mangle]
+pub extern "system" fn Java_com_surrealdb_PreparedQuery_deleteInstance<'local>(
+    _env: JNIEnv<'local>,
+    _class: JClass<'local>,
+    ptr: jlong,
+) -> jboolean {
+    release_instance::<Arc<Query>>(ptr);
+    true as jboolean
+}
+
+#[no_mangle]
+pub extern "system" fn Java_com_surrealdb_PreparedQuery_execute<'local>(
+    mut env: JNIEnv<'local>,
+    _class: JClass<'local>,
+    surreal_ptr: jlong,
+    ptr: jlong,
+    params_keys: JObjectArray<'local>,
+    params_values: JLongArray<'local>,
+) -> jlong {
+    let surreal = get_surreal_instance!(&mut env, surreal_ptr, || 0);
+    let query = match get_instance::<Arc<Query>>(ptr, JniTypes::PreparedQuery) {
+        Ok(q) => q,
+        Err(e) => return e.exception(&mut env, || 0),
+    };
+    let keys = get_rust_string_array!(&mut env, params_keys, || 0);
+    let value_ptrs = get_long_array!(&mut env, &params_values, || 0);
+    let mut params_map = BTreeMap::<String, &Value>::new();
+    for (key, value_ptr) in keys.into_iter().zip(value_ptrs) {
+        let value = get_value_mut_instance!(&mut env, value_ptr, || 0);
+        params_map.insert(key, value);
+    }
+    let res = TOKIO_RUNTIME.block_on(execute(&surreal, query, params_map));
+    let res = check_query_result!(&mut env, res, || 0);
+    JniTypes::new_response(Arc::new(Mutex::new(res)))
+}
+
+#[no_mangle]
+pub extern "system" fn Java_com_surrealdb_PreparedQuery_executeAsync<'local>(
+    mut env: JNIEnv<'local>,
+    _class: JClass<'local>,
+    surreal_ptr: jlong,
+    ptr: jlong,
+    params_keys: JObjectArray<'local>,
+    params_values: JLongArray<'local>,
+    callback: JObject<'local>,
+) {
+    let surreal = get_surreal_instance!(&mut env, surreal_ptr, || ());
+    // The statements are shared with the task, the Java side may release its handle before the query completes
+    let query = match get_instance::<Arc<Query>>(ptr, JniTypes::PreparedQuery) {
+        Ok(q) => q.clone(),
+        Err(e) => return e.exception(&mut env, || ()),
+    };
+    let keys = get_rust_string_array!(&mut env, params_keys, || ());
+    let value_ptrs = get_long_array!(&mut env, &params_values, || ());
+    // The values are moved, as the Java side may release them before the query completes.
+    // They are only checked here, and taken once the call can no longer fail.
+    for value_ptr in &value_ptrs {
+        get_value_mut_instance!(&mut env, *value_ptr, || ());
+    }
+    let res = spawn_callback_with(&mut env, callback, move || {
+        let params = take_params(keys, value_ptrs);
+        async move {
+            let res = execute(&surreal, &query, params?).await?;
+            Ok(JniTypes::new_response(Arc::new(Mutex::new(res))))
+        }
+    });
+    if let Err(e) = res {
+        e.exception(&mut env, || ())
+    }
+}
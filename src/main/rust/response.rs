@@ -7,7 +7,7 @@ use parking_lot::Mutex;
 use surrealdb::{Response, Value};
 
 use crate::error::SurrealError;
-use crate::{create_instance, get_response_instance, release_instance, JniTypes};
+use crate::{get_response_instance, release_instance, JniTypes};
 
 #[no_mangle]
 pub extern "system" fn Java_com_surrealdb_Response_deleteInstance<'local>(
@@ -31,7 +31,7 @@ pub extern "system" fn Java_com_surrealdb_Response_take<'local>(
         Ok(r) => r,
         Err(e) => return SurrealError::SurrealDB(e).exception(&mut env, || 0),
     };
-    create_instance(Arc::new(value), JniTypes::Value)
+    JniTypes::new_value(value.into_inner().into())
 }
 
 #[no_mangle]
@@ -43,3 +43,22 @@ pub extern "system" fn Java_com_surrealdb_Response_size<'local>(
     let response = get_response_instance!(&mut env, ptr, || 0);
     return response.lock().num_statements() as jint;
 }
+
+#[no_mangle]
+pub extern "system" fn Java_com_surrealdb_Response_takeIterator<'local>(
+    mut env: JNIEnv<'local>,
+    _class: JClass<'local>,
+    ptr: jlong,
+    num: jint,
+) -> jlong {
+    let response = get_response_instance!(&mut env, ptr, || 0);
+    let value: Value = match response.lock().take(num as usize) {
+        Ok(r) => r,
+        Err(e) => return SurrealError::SurrealDB(e).exception(&mut env, || 0),
+    };
+    // The rows are moved into the iterator rather than cloned
+    match value.into_inner() {
+        surrealdb::sql::Value::Array(a) => JniTypes::new_array_iter(a.into_iter()),
+        v => SurrealError::SurrealDBJni(format!("Unexpected result: {v}")).exception(&mut env, || 0),
+    }
+}
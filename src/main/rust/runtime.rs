@@ -0,0 +1,73 @@
+use parking_lot::{const_mutex, Mutex};
+use tokio::runtime::{Builder, Runtime};
+
+use crate::error::SurrealError;
+
+/// Settings of the shared Tokio runtime, set from `SurrealConfig`.
+#[derive(Clone, Default, PartialEq)]
+pub(super) struct RuntimeConfig {
+    pub(super) current_thread: bool,
+    pub(super) worker_threads: usize,
+    pub(super) max_blocking_threads: usize,
+    pub(super) thread_name: Option<String>,
+    pub(super) thread_stack_size: usize,
+}
+
+struct RuntimeState {
+    config: Option<RuntimeConfig>,
+    started: bool,
+}
+
+static STATE: Mutex<RuntimeState> = const_mutex(RuntimeState {
+    config: None,
+    started: false,
+});
+
+/// Records the configuration used when the runtime is first needed.
+/// Once the runtime is running, only the configuration it was started with is accepted again.
+pub(super) fn configure(config: RuntimeConfig) -> Result<(), SurrealError> {
+    let mut state = STATE.lock();
+    if state.started {
+        if state.config.as_ref().unwrap_or(&RuntimeConfig::default()) == &config {
+            return Ok(());
+        }
+        return Err(SurrealError::SurrealDBJni(
+            "The runtime has already been started with a different configuration".to_string(),
+        ));
+    }
+    state.config = Some(config);
+    Ok(())
+}
+
+/// Builds the runtime from the recorded configuration.
+/// Also returns the name of the thread to spawn for driving a current thread runtime.
+pub(super) fn build() -> (Runtime, Option<String>) {
+    let mut state = STATE.lock();
+    state.started = true;
+    let config = state.config.clone().unwrap_or_default();
+    let mut builder = if config.current_thread {
+        Builder::new_current_thread()
+    } else {
+        let mut builder = Builder::new_multi_thread();
+        if config.worker_threads > 0 {
+            builder.worker_threads(config.worker_threads);
+        }
+        builder
+    };
+    builder.enable_all();
+    if config.max_blocking_threads > 0 {
+        builder.max_blocking_threads(config.max_blocking_threads);
+    }
+    if let Some(name) = &config.thread_name {
+        builder.thread_name(name);
+    }
+    if config.thread_stack_size > 0 {
+        builder.thread_stack_size(config.thread_stack_size);
+    }
+    let runtime = builder.build().expect("Cannot start Tokio runtime");
+    // A current thread runtime only runs spawned tasks while a thread blocks on it
+    let driver = config
+        .current_thread
+        .then(|| config.thread_name.unwrap_or_else(|| "surrealdb-runtime".to_string()));
+    (runtime, driver)
+}
@@ -0,0 +1,139 @@
+use std::fmt;
+use std::ops::Bound::{Excluded, Unbounded};
+use std::ops::Deref;
+use std::ptr::NonNull;
+use std::sync::Arc;
+
+use serde::{Serialize, Serializer};
+use surrealdb::sql::Value;
+
+/// A value within a result tree, held by a Java `Value`, `Array` or `Object`.
+///
+/// Every handle into a tree shares its root, and points at its own value within it,
+/// so navigating to an element or a field of a nested document does not clone it.
+/// The tree is never mutated once shared, the pointer stays valid as long as the root is alive.
+#[derive(Clone)]
+pub(crate) struct SharedValue {
+    root: Arc<Value>,
+    value: NonNull<Value>,
+}
+
+// The pointer is only read, and the tree it points into is kept alive by the root
+unsafe impl Send for SharedValue {}
+unsafe impl Sync for SharedValue {}
+
+impl SharedValue {
+    /// Returns a handle to a value of this tree.
+    /// The value must be borrowed from this handle, which is enforced by the callers within this module.
+    fn share(&self, value: &Value) -> Self {
+        Self {
+            root: self.root.clone(),
+            value: NonNull::from(value),
+        }
+    }
+
+    /// Returns the element at the index, when this value is an array.
+    pub(crate) fn index(&self, idx: usize) -> Option<Self> {
+        match self.deref() {
+            Value::Array(a) => a.get(idx).map(|v| self.share(v)),
+            _ => None,
+        }
+    }
+
+    /// Returns the elements, when this value is an array.
+    pub(crate) fn elements(&self) -> impl Iterator<Item = Self> + '_ {
+        let elements: &[Value] = match self.deref() {
+            Value::Array(a) => &a.0,
+            _ => &[],
+        };
+        elements.iter().map(move |v| self.share(v))
+    }
+
+    /// Returns the value of the field, when this value is an object.
+    pub(crate) fn field(&self, key: &str) -> Option<Self> {
+        match self.deref() {
+            Value::Object(o) => o.get(key).map(|v| self.share(v)),
+            _ => None,
+        }
+    }
+
+    /// Returns the fields, in key order, when this value is an object.
+    pub(crate) fn fields(&self) -> impl Iterator<Item = (&str, Self)> + '_ {
+        let fields = match self.deref() {
+            Value::Object(o) => Some(o.iter()),
+            _ => None,
+        };
+        fields
+            .into_iter()
+            .flatten()
+            .map(move |(k, v)| (k.as_str(), self.share(v)))
+    }
+
+    /// Returns the first field whose key follows the given key, or the first field, when this value is an object.
+    pub(crate) fn field_after(&self, key: Option<&str>) -> Option<(String, Self)> {
+        let o = match self.deref() {
+            Value::Object(o) => o,
+            _ => return None,
+        };
+        let next = match key {
+            Some(key) => o.range::<str, _>((Excluded(key), Unbounded)).next(),
+            None => o.iter().next(),
+        };
+        next.map(|(k, v)| (k.clone(), self.share(v)))
+    }
+}
+
+impl Deref for SharedValue {
+    type Target = Value;
+
+    fn deref(&self) -> &Value {
+        // Safe as the root owning the value is held by this handle
+        unsafe { self.value.as_ref() }
+    }
+}
+
+impl AsRef<Value> for SharedValue {
+    fn as_ref(&self) -> &Value {
+        self.deref()
+    }
+}
+
+impl From<Arc<Value>> for SharedValue {
+    fn from(root: Arc<Value>) -> Self {
+        let value = NonNull::from(root.as_ref());
+        Self {
+            root,
+            value,
+        }
+    }
+}
+
+impl From<Value> for SharedValue {
+    fn from(value: Value) -> Self {
+        Arc::new(value).into()
+    }
+}
+
+impl PartialEq for SharedValue {
+    fn eq(&self, other: &Self) -> bool {
+        self.deref() == other.deref()
+    }
+}
+
+impl fmt::Display for SharedValue {
+    fn fmt(&self, f: &mut fmt::Formatter<'_>) -> fmt::Result {
+        fmt::Display::fmt(self.deref(), f)
+    }
+}
+
+impl fmt::Debug for SharedValue {
+    fn fmt(&self, f: &mut fmt::Formatter<'_>) -> fmt::Result {
+        fmt::Debug::fmt(self.deref(), f)
+    }
+}
+
+impl Serialize for SharedValue {
+    fn serialize<S: Serializer>(&self, serializer: S) -> Result<S::Ok, S::Error> {
+        self.deref().serialize(serializer)
+    }
+}
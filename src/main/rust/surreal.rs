@@ -1,20 +1,27 @@
+use std::borrow::Cow;
 use std::collections::BTreeMap;
+use std::path::PathBuf;
 use std::ptr::null_mut;
 use std::sync::Arc;
 
+use crate::callback::{spawn_callback, spawn_callback_with};
 use crate::error::SurrealError;
+use crate::export::{export_table, ExportFormat};
+use crate::import::{import_file, ImportFormat};
+use crate::livesubscription::live;
+use crate::runtime::{self, RuntimeConfig};
 use crate::{
     check_query_result, check_value_table, convert_up_type, get_long_array, get_rust_string,
     get_rust_string_array, get_surreal_instance, get_value_instance, get_value_mut_instance,
     new_jlong_array, new_string, parse_value, release_instance, return_unexpected_result,
     return_value_array_first, return_value_array_iter, return_value_array_iter_sync,
-    take_one_result, JniTypes, TOKIO_RUNTIME,
+    take_instance, take_one_result, JniTypes, TOKIO_RUNTIME,
 };
-use jni::objects::{JClass, JLongArray, JObjectArray, JString};
+use jni::objects::{JClass, JLongArray, JObject, JObjectArray, JString};
 use jni::sys::{jboolean, jint, jlong, jlongArray, jstring};
 use jni::JNIEnv;
 use parking_lot::Mutex;
-use serde::Serialize;
+use serde::{Serialize, Serializer};
 use surrealdb::engine::any::Any;
 use surrealdb::opt::auth::{Database, Namespace, Root};
 use surrealdb::sql::Value;
@@ -28,6 +35,34 @@ pub extern "system" fn Java_com_surrealdb_Surreal_newInstance<'local>(
     JniTypes::new_surreal(Surreal::<Any>::init())
 }
 
+#[no_mangle]
+pub extern "system" fn Java_com_surrealdb_Surreal_configureRuntime<'local>(
+    mut env: JNIEnv<'local>,
+    _class: JClass<'local>,
+    current_thread: jboolean,
+    worker_threads: jint,
+    max_blocking_threads: jint,
+    thread_name: JString<'local>,
+    thread_stack_size: jlong,
+) -> jboolean {
+    let thread_name = if thread_name.is_null() {
+        None
+    } else {
+        Some(get_rust_string!(&mut env, thread_name, || false as jboolean))
+    };
+    let config = RuntimeConfig {
+        current_thread: current_thread != 0,
+        worker_threads: worker_threads as usize,
+        max_blocking_threads: max_blocking_threads as usize,
+        thread_name,
+        thread_stack_size: thread_stack_size as usize,
+    };
+    if let Err(e) = runtime::configure(config) {
+        return e.exception(&mut env, || false as jboolean);
+    }
+    true as jboolean
+}
+
 #[no_mangle]
 pub extern "system" fn Java_com_surrealdb_Surreal_deleteInstance<'local>(
     _env: JNIEnv<'local>,
@@ -245,14 +280,63 @@ fn surrealdb_query<T>(
 where
     T: Serialize + 'static,
 {
-    TOKIO_RUNTIME.block_on(async {
-        let q = surreal.query(query);
-        if let Some(p) = params {
-            q.bind(p).await
-        } else {
-            q.await
+    TOKIO_RUNTIME.block_on(surrealdb_query_async(surreal, query, params))
+}
+
+pub(super) async fn surrealdb_query_async<T>(
+    surreal: &Surreal<Any>,
+    query: &str,
+    params: Option<BTreeMap<String, T>>,
+) -> Result<Response, Error>
+where
+    T: Serialize + 'static,
+{
+    let q = surreal.query(query);
+    if let Some(p) = params {
+        q.bind(p).await
+    } else {
+        q.await
+    }
+}
+
+/// Serializes borrowed values as one array, so that they can be bound as a single parameter without being cloned.
+struct Records(Vec<&'static Value>);
+
+impl Serialize for Records {
+    fn serialize<S: Serializer>(&self, serializer: S) -> Result<S::Ok, S::Error> {
+        serializer.collect_seq(&self.0)
+    }
+}
+
+pub(super) fn take_first_result(response: &mut Response) -> Result<Value, SurrealError> {
+    let r = response.take::<surrealdb::Value>(0)?;
+    Ok(r.into_inner())
+}
+
+/// Builds the SELECT statement of the selects on targets.
+/// Typed selects only select the fields of the class, and fetch the fields holding other objects.
+fn select_query(fields: &str, fetch: Option<&str>, targets: &[String]) -> String {
+    match fetch {
+        Some(fetch) => format!("SELECT {fields} FROM {} FETCH {fetch}", targets.join(",")),
+        None => format!("SELECT {fields} FROM {}", targets.join(",")),
+    }
+}
+
+fn new_first_value(result: Value) -> Result<jlong, SurrealError> {
+    if let Value::Array(mut a) = result {
+        if a.len() == 1 {
+            return Ok(JniTypes::new_value(a.remove(0).into()));
         }
-    })
+        return Err(SurrealError::SurrealDBJni(format!("Unexpected result: {a}")));
+    }
+    Err(SurrealError::SurrealDBJni(format!("Unexpected result: {result}")))
+}
+
+fn new_array_iter(result: Value) -> Result<jlong, SurrealError> {
+    if let Value::Array(a) = result {
+        return Ok(JniTypes::new_array_iter(a.into_iter()));
+    }
+    Err(SurrealError::SurrealDBJni(format!("Unexpected result: {result}")))
 }
 
 #[no_mangle]
@@ -354,15 +438,16 @@ pub extern "system" fn Java_com_surrealdb_Surreal_insertTargetValues<'local>(
     let table = check_value_table!(&mut env, target, null_mut);
     // Get the pointers
     let value_ptrs = get_long_array!(&mut env, &value_ptrs, null_mut);
-    // Build the queries
+    // Collect the records, they are bound as one parameter rather than written in the query
     let mut records = Vec::with_capacity(value_ptrs.len());
     for value_ptr in &value_ptrs {
         let value = get_value_mut_instance!(&mut env, *value_ptr, null_mut);
-        records.push(value.to_string());
+        records.push(value);
     }
-    let query = format!("INSERT INTO {table} [ {} ]", records.join(" , "));
+    let query = format!("INSERT INTO {table} $vals");
+    let params = BTreeMap::from([("vals".to_string(), Records(records))]);
     // Execute the query
-    let res = surrealdb_query::<()>(&surreal, &query, None);
+    let res = surrealdb_query(&surreal, &query, Some(params));
     // Check the result
     let mut response = check_query_result!(&mut env, res, null_mut);
     // There is only one statement
@@ -429,15 +514,16 @@ pub extern "system" fn Java_com_surrealdb_Surreal_insertRelationTargetValues<'lo
     let table = check_value_table!(&mut env, target, null_mut);
     // Get the pointers
     let value_ptrs = get_long_array!(&mut env, &value_ptrs, null_mut);
-    // Build the queries
+    // Collect the records, they are bound as one parameter rather than written in the query
     let mut records = Vec::with_capacity(value_ptrs.len());
     for value_ptr in &value_ptrs {
         let value = get_value_mut_instance!(&mut env, *value_ptr, null_mut);
-        records.push(value.to_string());
+        records.push(value);
     }
-    let query = format!("INSERT RELATION INTO {table} [ {} ]", records.join(" , "));
+    let query = format!("INSERT RELATION INTO {table} $vals");
+    let params = BTreeMap::from([("vals".to_string(), Records(records))]);
     // Execute the query
-    let res = surrealdb_query::<()>(&surreal, &query, None);
+    let res = surrealdb_query(&surreal, &query, Some(params));
     // Check the result
     let mut response = check_query_result!(&mut env, res, null_mut);
     // There is only one statement
@@ -514,10 +600,11 @@ pub extern "system" fn Java_com_surrealdb_Surreal_relateContent<'local>(
     let to_value = get_value_instance!(&mut env, to_ptr, || 0);
     let content_value = get_value_mut_instance!(&mut env, content_ptr, || 0);
     // Execute the query
-    let query = format!("RELATE $from->{table}->$to CONTENT {content_value}");
+    let query = format!("RELATE $from->{table}->$to CONTENT $content");
     let params = BTreeMap::from([
-        ("from".to_string(), from_value),
-        ("to".to_string(), to_value),
+        ("from".to_string(), Cow::Owned(Value::clone(&from_value))),
+        ("to".to_string(), Cow::Owned(Value::clone(&to_value))),
+        ("content".to_string(), Cow::Borrowed(content_value)),
     ]);
     let res = surrealdb_query(&surreal, &query, Some(params));
     // Check the result
@@ -581,7 +668,7 @@ pub extern "system" fn Java_com_surrealdb_Surreal_selectThings<'local>(
     if let Value::Array(a) = res {
         let mut value_ptrs: Vec<jlong> = Vec::with_capacity(a.len());
         for value in a {
-            let value_ptr = JniTypes::new_value(Arc::new(value));
+            let value_ptr = JniTypes::new_value(value.into());
             value_ptrs.push(value_ptr);
         }
         // Return the results
@@ -597,14 +684,23 @@ pub extern "system" fn Java_com_surrealdb_Surreal_selectTargetsValues<'local>(
     mut env: JNIEnv<'local>,
     _class: JClass<'local>,
     surreal_ptr: jlong,
+    fields: JString<'local>,
+    fetch: JString<'local>,
     targets: JObjectArray<'local>,
 ) -> jlong {
     // Retrieve the Surreal instance
     let surreal = get_surreal_instance!(&mut env, surreal_ptr, || 0);
+    // Get the projection
+    let fields = get_rust_string!(&mut env, fields, || 0);
+    let fetch = if fetch.is_null() {
+        None
+    } else {
+        Some(get_rust_string!(&mut env, fetch, || 0))
+    };
     // Get the targets
     let targets = get_rust_string_array!(&mut env, targets, || 0);
     // Prepare the query
-    let query = format!("SELECT * FROM {}", targets.join(","));
+    let query = select_query(&fields, fetch.as_deref(), &targets);
     // Execute the query
     let res = surrealdb_query::<()>(&surreal, &query, None);
     // Check the result
@@ -622,14 +718,23 @@ pub extern "system" fn Java_com_surrealdb_Surreal_selectTargetsValuesSync<'local
     mut env: JNIEnv<'local>,
     _class: JClass<'local>,
     surreal_ptr: jlong,
+    fields: JString<'local>,
+    fetch: JString<'local>,
     targets: JObjectArray<'local>,
 ) -> jlong {
     // Retrieve the Surreal instance
     let surreal = get_surreal_instance!(&mut env, surreal_ptr, || 0);
+    // Get the projection
+    let fields = get_rust_string!(&mut env, fields, || 0);
+    let fetch = if fetch.is_null() {
+        None
+    } else {
+        Some(get_rust_string!(&mut env, fetch, || 0))
+    };
     // Get the targets
     let targets = get_rust_string_array!(&mut env, targets, || 0);
     // Prepare the query
-    let query = format!("SELECT * FROM {}", targets.join(","));
+    let query = select_query(&fields, fetch.as_deref(), &targets);
     // Execute the query
     let res = surrealdb_query::<()>(&surreal, &query, None);
     // Check the result
@@ -768,6 +873,80 @@ pub extern "system" fn Java_com_surrealdb_Surreal_upsertThingValue<'local>(
     up_thing_value(env, surreal_ptr, thing_ptr, up_type, value_ptr, "upsert")
 }
 
+fn up_things_values(
+    mut env: JNIEnv,
+    surreal_ptr: jlong,
+    thing_ptrs: JLongArray,
+    up_type: jint,
+    value_ptrs: JLongArray,
+    up: &str,
+) -> jlongArray {
+    // Retrieve the Surreal instance
+    let surreal = get_surreal_instance!(&mut env, surreal_ptr, null_mut);
+    // Check the up type
+    let up_type = convert_up_type!(&mut env, up_type, null_mut);
+    // Get the pointers
+    let thing_ptrs = get_long_array!(&mut env, &thing_ptrs, null_mut);
+    let value_ptrs = get_long_array!(&mut env, &value_ptrs, null_mut);
+    // Build one statement per record, sent in a single transaction, so that either every record or none is changed.
+    // The contents are bound as a single array.
+    let mut query = String::from("BEGIN TRANSACTION;\n");
+    let mut contents = Vec::with_capacity(value_ptrs.len());
+    for (idx, (thing_ptr, value_ptr)) in thing_ptrs.iter().zip(value_ptrs.iter()).enumerate() {
+        let thing = get_value_instance!(&mut env, *thing_ptr, null_mut);
+        query.push_str(&format!("{up} {thing} {up_type} $vals[{idx}];\n"));
+        let value = get_value_mut_instance!(&mut env, *value_ptr, null_mut);
+        contents.push(value);
+    }
+    query.push_str("COMMIT TRANSACTION;");
+    let params = BTreeMap::from([("vals".to_string(), contents)]);
+    // Execute the query
+    let res = surrealdb_query(&surreal, &query, Some(params));
+    // Check the result
+    let mut res = check_query_result!(&mut env, res, null_mut);
+    // Every statement is checked before any handle is created, a missing record returns no result
+    let mut values = Vec::with_capacity(res.num_statements());
+    for i in 0..res.num_statements() {
+        match res.take::<surrealdb::Value>(i) {
+            Ok(r) => {
+                if let Value::Array(a) = r.into_inner() {
+                    values.extend(a);
+                }
+            }
+            Err(e) => return SurrealError::SurrealDB(e).exception(&mut env, null_mut),
+        }
+    }
+    let value_ptrs: Vec<jlong> = values
+        .into_iter()
+        .map(|v| JniTypes::new_value(v.into()))
+        .collect();
+    new_jlong_array!(&mut env, &value_ptrs, null_mut)
+}
+
+#[no_mangle]
+pub extern "system" fn Java_com_surrealdb_Surreal_updateThingsValues<'local>(
+    env: JNIEnv<'local>,
+    _class: JClass<'local>,
+    surreal_ptr: jlong,
+    thing_ptrs: JLongArray<'local>,
+    up_type: jint,
+    value_ptrs: JLongArray<'local>,
+) -> jlongArray {
+    up_things_values(env, surreal_ptr, thing_ptrs, up_type, value_ptrs, "update")
+}
+
+#[no_mangle]
+pub extern "system" fn Java_com_surrealdb_Surreal_upsertThingsValues<'local>(
+    env: JNIEnv<'local>,
+    _class: JClass<'local>,
+    surreal_ptr: jlong,
+    thing_ptrs: JLongArray<'local>,
+    up_type: jint,
+    value_ptrs: JLongArray<'local>,
+) -> jlongArray {
+    up_things_values(env, surreal_ptr, thing_ptrs, up_type, value_ptrs, "upsert")
+}
+
 fn up_target_value(
     mut env: JNIEnv,
     surreal_ptr: jlong,
@@ -883,3 +1062,410 @@ pub extern "system" fn Java_com_surrealdb_Surreal_upsertTargetValueSync<'local>(
 ) -> jlong {
     up_target_value_sync(env, surreal_ptr, target, up_type, value_ptr, "upsert")
 }
+
+fn spawn_or_throw<F>(env: &mut JNIEnv, callback: JObject, future: F)
+where
+    F: std::future::Future<Output = Result<jlong, SurrealError>> + Send + 'static,
+{
+    if let Err(e) = spawn_callback(env, callback, future) {
+        e.exception(env, || ())
+    }
+}
+
+fn spawn_with_or_throw<F, B>(env: &mut JNIEnv, callback: JObject, build: B)
+where
+    B: FnOnce() -> F,
+    F: std::future::Future<Output = Result<jlong, SurrealError>> + Send + 'static,
+{
+    if let Err(e) = spawn_callback_with(env, callback, build) {
+        e.exception(env, || ())
+    }
+}
+
+/// Takes the parameter values moved from Java.
+/// The pointers must have been checked beforehand, so that a failed call leaves every value to Java.
+pub(super) fn take_params(
+    keys: Vec<String>,
+    value_ptrs: Vec<jlong>,
+) -> Result<BTreeMap<String, Value>, SurrealError> {
+    keys.into_iter()
+        .zip(value_ptrs)
+        .map(|(key, ptr)| Ok((key, take_instance::<Value>(ptr, JniTypes::ValueMut)?)))
+        .collect()
+}
+
+#[no_mangle]
+pub extern "system" fn Java_com_surrealdb_Surreal_live<'local>(
+    mut env: JNIEnv<'local>,
+    _class: JClass<'local>,
+    surreal_ptr: jlong,
+    table: JString<'local>,
+    callback: JObject<'local>,
+) -> jlong {
+    let surreal = get_surreal_instance!(&mut env, surreal_ptr, || 0);
+    let table = get_rust_string!(&mut env, table, || 0);
+    match live(&mut env, surreal, table, callback) {
+        Ok(ptr) => ptr,
+        Err(e) => e.exception(&mut env, || 0),
+    }
+}
+
+#[no_mangle]
+pub extern "system" fn Java_com_surrealdb_Surreal_importFile<'local>(
+    mut env: JNIEnv<'local>,
+    _class: JClass<'local>,
+    surreal_ptr: jlong,
+    path: JString<'local>,
+    table: JString<'local>,
+    format: jint,
+    batch_size: jint,
+) -> jlongArray {
+    let surreal = get_surreal_instance!(&mut env, surreal_ptr, null_mut);
+    let path = get_rust_string!(&mut env, path, null_mut);
+    let table = get_rust_string!(&mut env, table, null_mut);
+    // Parse and check the table before the file is opened
+    let table = parse_value!(&mut env, &table, null_mut);
+    let table = check_value_table!(&mut env, table, null_mut);
+    let format = match ImportFormat::from_code(format) {
+        Ok(f) => f,
+        Err(e) => return e.exception(&mut env, null_mut),
+    };
+    match import_file(&surreal, &path, &table, format, batch_size as usize) {
+        Ok(stats) => {
+            let counters = [stats.records as jlong, stats.batches as jlong, stats.bytes as jlong];
+            new_jlong_array!(&mut env, &counters, null_mut)
+        }
+        Err(e) => e.exception(&mut env, null_mut),
+    }
+}
+
+#[no_mangle]
+pub extern "system" fn Java_com_surrealdb_Surreal_exportTable<'local>(
+    mut env: JNIEnv<'local>,
+    _class: JClass<'local>,
+    surreal_ptr: jlong,
+    table: JString<'local>,
+    path: JString<'local>,
+    format: jint,
+    page_size: jint,
+) -> jlongArray {
+    let surreal = get_surreal_instance!(&mut env, surreal_ptr, null_mut);
+    let table = get_rust_string!(&mut env, table, null_mut);
+    let path = get_rust_string!(&mut env, path, null_mut);
+    let format = match ExportFormat::from_code(format) {
+        Ok(f) => f,
+        Err(e) => return e.exception(&mut env, null_mut),
+    };
+    match export_table(&surreal, &table, &path, format, page_size as usize) {
+        Ok(stats) => {
+            let counters = [stats.records as jlong, stats.pages as jlong, stats.bytes as jlong];
+            new_jlong_array!(&mut env, &counters, null_mut)
+        }
+        Err(e) => e.exception(&mut env, null_mut),
+    }
+}
+
+#[no_mangle]
+pub extern "system" fn Java_com_surrealdb_Surreal_exportDatabase<'local>(
+    mut env: JNIEnv<'local>,
+    _class: JClass<'local>,
+    surreal_ptr: jlong,
+    path: JString<'local>,
+) -> jboolean {
+    let surreal = get_surreal_instance!(&mut env, surreal_ptr, || false as jboolean);
+    let path = get_rust_string!(&mut env, path, || false as jboolean);
+    // The SDK streams the export to the file
+    let res = TOKIO_RUNTIME.block_on(async { surreal.export(PathBuf::from(path)).await });
+    if let Err(e) = res {
+        return SurrealError::from(e).exception(&mut env, || false as jboolean);
+    }
+    true as jboolean
+}
+
+#[no_mangle]
+pub extern "system" fn Java_com_surrealdb_Surreal_importDatabase<'local>(
+    mut env: JNIEnv<'local>,
+    _class: JClass<'local>,
+    surreal_ptr: jlong,
+    path: JString<'local>,
+) -> jboolean {
+    let surreal = get_surreal_instance!(&mut env, surreal_ptr, || false as jboolean);
+    let path = get_rust_string!(&mut env, path, || false as jboolean);
+    let res = TOKIO_RUNTIME.block_on(async { surreal.import(PathBuf::from(path)).await });
+    if let Err(e) = res {
+        return SurrealError::from(e).exception(&mut env, || false as jboolean);
+    }
+    true as jboolean
+}
+
+#[no_mangle]
+pub extern "system" fn Java_com_surrealdb_Surreal_queryAsync<'local>(
+    mut env: JNIEnv<'local>,
+    _class: JClass<'local>,
+    ptr: jlong,
+    query: JString<'local>,
+    callback: JObject<'local>,
+) {
+    // Retrieve the Surreal instance
+    let surreal = get_surreal_instance!(&mut env, ptr, || ());
+    // Retrieve the query
+    let query = get_rust_string!(&mut env, &query, || ());
+    // Execute the query on the runtime
+    spawn_or_throw(&mut env, callback, async move {
+        let res = surrealdb_query_async::<()>(&surreal, &query, None).await?;
+        Ok(JniTypes::new_response(Arc::new(Mutex::new(res))))
+    });
+}
+
+#[no_mangle]
+pub extern "system" fn Java_com_surrealdb_Surreal_queryBindAsync<'local>(
+    mut env: JNIEnv<'local>,
+    _class: JClass<'local>,
+    ptr: jlong,
+    query: JString<'local>,
+    params_keys: JObjectArray<'local>,
+    params_values: JLongArray<'local>,
+    callback: JObject<'local>,
+) {
+    // Retrieve the Surreal instance
+    let surreal = get_surreal_instance!(&mut env, ptr, || ());
+    // Retrieve the query
+    let query = get_rust_string!(&mut env, &query, || ());
+    let keys = get_rust_string_array!(&mut env, params_keys, || ());
+    let value_ptrs = get_long_array!(&mut env, &params_values, || ());
+    // The values are moved, as the Java side may release them before the query completes.
+    // They are only checked here, and taken once the call can no longer fail.
+    for value_ptr in &value_ptrs {
+        get_value_mut_instance!(&mut env, *value_ptr, || ());
+    }
+    // Execute the query on the runtime
+    spawn_with_or_throw(&mut env, callback, move || {
+        let params = take_params(keys, value_ptrs);
+        async move {
+            let res = surrealdb_query_async(&surreal, &query, Some(params?)).await?;
+            Ok(JniTypes::new_response(Arc::new(Mutex::new(res))))
+        }
+    });
+}
+
+#[no_mangle]
+pub extern "system" fn Java_com_surrealdb_Surreal_createThingValueAsync<'local>(
+    mut env: JNIEnv<'local>,
+    _class: JClass<'local>,
+    surreal_ptr: jlong,
+    thing_ptr: jlong,
+    value_ptr: jlong,
+    callback: JObject<'local>,
+) {
+    // Retrieve the Surreal instance
+    let surreal = get_surreal_instance!(&mut env, surreal_ptr, || ());
+    // Extract the thing
+    let thing = get_value_instance!(&mut env, thing_ptr, || ());
+    // Check the value, which is taken once the call can no longer fail
+    get_value_mut_instance!(&mut env, value_ptr, || ());
+    // Execute the query on the runtime
+    spawn_with_or_throw(&mut env, callback, move || {
+        let value = take_instance::<Value>(value_ptr, JniTypes::ValueMut);
+        async move {
+            let query = format!("CREATE {thing} CONTENT $val");
+            let params = BTreeMap::from([("val".to_string(), value?)]);
+            let mut response = surrealdb_query_async(&surreal, &query, Some(params)).await?;
+            // There should be only one result
+            new_first_value(take_first_result(&mut response)?)
+        }
+    });
+}
+
+#[no_mangle]
+pub extern "system" fn Java_com_surrealdb_Surreal_insertTargetValuesAsync<'local>(
+    mut env: JNIEnv<'local>,
+    _class: JClass<'local>,
+    surreal_ptr: jlong,
+    target: JString<'local>,
+    value_ptrs: JLongArray<'local>,
+    callback: JObject<'local>,
+) {
+    // Retrieve the Surreal instance
+    let surreal = get_surreal_instance!(&mut env, surreal_ptr, || ());
+    // Build the parameters
+    let target = get_rust_string!(&mut env, target, || ());
+    // Parse the target
+    let target = parse_value!(&mut env, &target, || ());
+    // Check the target is a table
+    let table = check_value_table!(&mut env, target, || ());
+    // Get the pointers
+    let value_ptrs = get_long_array!(&mut env, &value_ptrs, || ());
+    // The Java values may be released before the query runs, so the records are copied
+    let mut records = Vec::with_capacity(value_ptrs.len());
+    for value_ptr in &value_ptrs {
+        let value = get_value_mut_instance!(&mut env, *value_ptr, || ());
+        records.push(value.clone());
+    }
+    // Execute the query on the runtime
+    spawn_or_throw(&mut env, callback, async move {
+        let query = format!("INSERT INTO {table} $vals");
+        let params = BTreeMap::from([("vals".to_string(), Value::from(records))]);
+        let mut response = surrealdb_query_async(&surreal, &query, Some(params)).await?;
+        new_array_iter(take_first_result(&mut response)?)
+    });
+}
+
+#[no_mangle]
+pub extern "system" fn Java_com_surrealdb_Surreal_relateAsync<'local>(
+    mut env: JNIEnv<'local>,
+    _class: JClass<'local>,
+    surreal_ptr: jlong,
+    from_ptr: jlong,
+    target: JString<'local>,
+    to_ptr: jlong,
+    callback: JObject<'local>,
+) {
+    // Retrieve the Surreal instance
+    let surreal = get_surreal_instance!(&mut env, surreal_ptr, || ());
+    // Build the parameters
+    let target = get_rust_string!(&mut env, target, || ());
+    // Parse the target
+    let target = parse_value!(&mut env, &target, || ());
+    let table = check_value_table!(&mut env, target, || ());
+    // Get from and to
+    let from_value = get_value_instance!(&mut env, from_ptr, || ());
+    let to_value = get_value_instance!(&mut env, to_ptr, || ());
+    // Execute the query on the runtime
+    spawn_or_throw(&mut env, callback, async move {
+        let query = format!("RELATE $from->{table}->$to");
+        let params = BTreeMap::from([
+            ("from".to_string(), from_value),
+            ("to".to_string(), to_value),
+        ]);
+        let mut response = surrealdb_query_async(&surreal, &query, Some(params)).await?;
+        new_first_value(take_first_result(&mut response)?)
+    });
+}
+
+#[no_mangle]
+pub extern "system" fn Java_com_surrealdb_Surreal_selectThingAsync<'local>(
+    mut env: JNIEnv<'local>,
+    _class: JClass<'local>,
+    surreal_ptr: jlong,
+    thing_ptr: jlong,
+    callback: JObject<'local>,
+) {
+    // Retrieve the Surreal instance
+    let surreal = get_surreal_instance!(&mut env, surreal_ptr, || ());
+    // Extract the thing
+    let thing = get_value_instance!(&mut env, thing_ptr, || ());
+    // Execute the query on the runtime
+    spawn_or_throw(&mut env, callback, async move {
+        let query = format!("SELECT * FROM {thing}");
+        let mut response = surrealdb_query_async::<()>(&surreal, &query, None).await?;
+        // A missing record is returned as a null pointer
+        match take_first_result(&mut response)? {
+            Value::Array(a) if a.is_empty() => Ok(0),
+            result => new_first_value(result),
+        }
+    });
+}
+
+#[no_mangle]
+pub extern "system" fn Java_com_surrealdb_Surreal_selectTargetsValuesAsync<'local>(
+    mut env: JNIEnv<'local>,
+    _class: JClass<'local>,
+    surreal_ptr: jlong,
+    fields: JString<'local>,
+    fetch: JString<'local>,
+    targets: JObjectArray<'local>,
+    callback: JObject<'local>,
+) {
+    // Retrieve the Surreal instance
+    let surreal = get_surreal_instance!(&mut env, surreal_ptr, || ());
+    // Get the projection
+    let fields = get_rust_string!(&mut env, fields, || ());
+    let fetch = if fetch.is_null() {
+        None
+    } else {
+        Some(get_rust_string!(&mut env, fetch, || ()))
+    };
+    // Get the targets
+    let targets = get_rust_string_array!(&mut env, targets, || ());
+    // Execute the query on the runtime
+    spawn_or_throw(&mut env, callback, async move {
+        let query = select_query(&fields, fetch.as_deref(), &targets);
+        let mut response = surrealdb_query_async::<()>(&surreal, &query, None).await?;
+        new_array_iter(take_first_result(&mut response)?)
+    });
+}
+
+#[no_mangle]
+pub extern "system" fn Java_com_surrealdb_Surreal_deleteThingAsync<'local>(
+    mut env: JNIEnv<'local>,
+    _class: JClass<'local>,
+    surreal_ptr: jlong,
+    thing_ptr: jlong,
+    callback: JObject<'local>,
+) {
+    // Retrieve the Surreal instance
+    let surreal = get_surreal_instance!(&mut env, surreal_ptr, || ());
+    // Build the parameters
+    let thing = get_value_instance!(&mut env, thing_ptr, || ());
+    // Execute the query on the runtime
+    spawn_or_throw(&mut env, callback, async move {
+        let params = BTreeMap::from([("t".to_string(), thing)]);
+        surrealdb_query_async(&surreal, "DELETE $t", Some(params)).await?;
+        Ok(0)
+    });
+}
+
+fn up_thing_value_async(
+    mut env: JNIEnv,
+    surreal_ptr: jlong,
+    thing_ptr: jlong,
+    up_type: jint,
+    value_ptr: jlong,
+    callback: JObject,
+    up: &'static str,
+) {
+    // Retrieve the Surreal instance
+    let surreal = get_surreal_instance!(&mut env, surreal_ptr, || ());
+    // Extract the thing
+    let thing = get_value_instance!(&mut env, thing_ptr, || ());
+    // Check the up type
+    let up_type = convert_up_type!(&mut env, up_type, || ());
+    // Check the value, which is taken once the call can no longer fail
+    get_value_mut_instance!(&mut env, value_ptr, || ());
+    // Execute the query on the runtime
+    spawn_with_or_throw(&mut env, callback, move || {
+        let value = take_instance::<Value>(value_ptr, JniTypes::ValueMut);
+        async move {
+            let query = format!("{up} {thing} {up_type} $val");
+            let params = BTreeMap::from([("val".to_string(), value?)]);
+            let mut response = surrealdb_query_async(&surreal, &query, Some(params)).await?;
+            new_first_value(take_first_result(&mut response)?)
+        }
+    });
+}
+
+#[no_mangle]
+pub extern "system" fn Java_com_surrealdb_Surreal_updateThingValueAsync<'local>(
+    env: JNIEnv<'local>,
+    _class: JClass<'local>,
+    surreal_ptr: jlong,
+    thing_ptr: jlong,
+    up_type: jint,
+    value_ptr: jlong,
+    callback: JObject<'local>,
+) {
+    up_thing_value_async(env, surreal_ptr, thing_ptr, up_type, value_ptr, callback, "update")
+}
+
+#[no_mangle]
+pub extern "system" fn Java_com_surrealdb_Surreal_upsertThingValueAsync<'local>(
+    env: JNIEnv<'local>,
+    _class: JClass<'local>,
+    surreal_ptr: jlong,
+    thing_ptr: jlong,
+    up_type: jint,
+    value_ptr: jlong,
+    callback: JObject<'local>,
+) {
+    up_thing_value_async(env, surreal_ptr, thing_ptr, up_type, value_ptr, callback, "upsert")
+}
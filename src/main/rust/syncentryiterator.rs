@@ -27,7 +27,7 @@ pub extern "system" fn Java_com_surrealdb_SynchronizedEntryIterator_next<'local>
     let iter = get_sync_entry_iterator_instance!(&mut env, ptr, || 0);
     let mut iter = iter.lock();
     if let Some((key, value)) = iter.next() {
-        JniTypes::new_key_value(key, value.into())
+        JniTypes::new_key_value(key, value)
     } else {
         SurrealError::NoSuchElementException.exception(&mut env, || 0)
     }
@@ -27,7 +27,7 @@ pub extern "system" fn Java_com_surrealdb_SynchronizedValueIterator_next<'local>
     let iter = get_sync_value_iterator_instance!(&mut env, ptr, || 0);
     let mut iter = iter.lock();
     if let Some(v) = iter.next() {
-        JniTypes::new_value(v.into())
+        JniTypes::new_value(v)
     } else {
         SurrealError::NoSuchElementException.exception(&mut env, || 0)
     }
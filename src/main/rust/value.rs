@@ -1,13 +1,14 @@
 use std::hash::{DefaultHasher, Hash, Hasher};
 use std::ptr::null_mut;
-use std::sync::Arc;
 
-use jni::objects::{AsJArrayRaw, JClass};
+use jni::objects::{AsJArrayRaw, JByteArray, JByteBuffer, JClass};
 use jni::sys::{jboolean, jbyteArray, jdouble, jint, jlong, jlongArray, jstring};
 use jni::JNIEnv;
 use surrealdb::sql::{Number, Value};
 
+use crate::cbor;
 use crate::error::SurrealError;
+use crate::sharedvalue::SharedValue;
 use crate::{get_value_instance, new_jlong_array, new_string, release_instance, JniTypes};
 
 #[no_mangle]
@@ -16,10 +17,57 @@ pub extern "system" fn Java_com_surrealdb_Value_deleteInstance<'local>(
     _class: JClass<'local>,
     ptr: jlong,
 ) -> jboolean {
-    release_instance::<Arc<Value>>(ptr);
+    release_instance::<SharedValue>(ptr);
     true as jboolean
 }
 
+/// The ordinals of the Java `ValueKind` enum.
+mod kind {
+    pub(super) const NONE: i32 = 0;
+    pub(super) const NULL: i32 = 1;
+    pub(super) const BOOLEAN: i32 = 2;
+    pub(super) const LONG: i32 = 3;
+    pub(super) const DOUBLE: i32 = 4;
+    pub(super) const BIGDECIMAL: i32 = 5;
+    pub(super) const STRING: i32 = 6;
+    pub(super) const DURATION: i32 = 7;
+    pub(super) const DATETIME: i32 = 8;
+    pub(super) const UUID: i32 = 9;
+    pub(super) const ARRAY: i32 = 10;
+    pub(super) const OBJECT: i32 = 11;
+    pub(super) const GEOMETRY: i32 = 12;
+    pub(super) const BYTES: i32 = 13;
+    pub(super) const THING: i32 = 14;
+    pub(super) const OTHER: i32 = 15;
+}
+
+#[no_mangle]
+pub extern "system" fn Java_com_surrealdb_Value_getKind<'local>(
+    mut env: JNIEnv<'local>,
+    _class: JClass<'local>,
+    ptr: jlong,
+) -> jint {
+    let value = get_value_instance!(&mut env, ptr, || kind::OTHER);
+    match value.as_ref() {
+        Value::None => kind::NONE,
+        Value::Null => kind::NULL,
+        Value::Bool(_) => kind::BOOLEAN,
+        Value::Number(Number::Int(_)) => kind::LONG,
+        Value::Number(Number::Float(_)) => kind::DOUBLE,
+        Value::Number(Number::Decimal(_)) => kind::BIGDECIMAL,
+        Value::Strand(_) => kind::STRING,
+        Value::Duration(_) => kind::DURATION,
+        Value::Datetime(_) => kind::DATETIME,
+        Value::Uuid(_) => kind::UUID,
+        Value::Array(_) => kind::ARRAY,
+        Value::Object(_) => kind::OBJECT,
+        Value::Geometry(_) => kind::GEOMETRY,
+        Value::Bytes(_) => kind::BYTES,
+        Value::Thing(_) => kind::THING,
+        _ => kind::OTHER,
+    }
+}
+
 #[no_mangle]
 pub extern "system" fn Java_com_surrealdb_Value_isArray<'local>(
     mut env: JNIEnv<'local>,
@@ -119,6 +167,127 @@ pub extern "system" fn Java_com_surrealdb_Value_getBytes<'local>(
     }
 }
 
+#[no_mangle]
+pub extern "system" fn Java_com_surrealdb_Value_getBytesDirect<'local>(
+    mut env: JNIEnv<'local>,
+    _class: JClass<'local>,
+    ptr: jlong,
+    buffer: JByteBuffer<'local>,
+    position: jint,
+    remaining: jint,
+) -> jint {
+    let value = get_value_instance!(&mut env, ptr, || 0);
+    if let Value::Bytes(bytes) = value.as_ref() {
+        // Nothing is copied when the buffer is too small, the caller reports the overflow
+        if bytes.len() <= remaining as usize {
+            let addr = match env.get_direct_buffer_address(&buffer) {
+                Ok(a) => a,
+                Err(e) => return SurrealError::from(e).exception(&mut env, || 0),
+            };
+            unsafe {
+                std::ptr::copy_nonoverlapping(
+                    bytes.as_ptr(),
+                    addr.add(position as usize),
+                    bytes.len(),
+                )
+            };
+        }
+        bytes.len() as jint
+    } else {
+        SurrealError::NullPointerException("Bytes").exception(&mut env, || 0)
+    }
+}
+
+#[no_mangle]
+pub extern "system" fn Java_com_surrealdb_Value_getBytesArray<'local>(
+    mut env: JNIEnv<'local>,
+    _class: JClass<'local>,
+    ptr: jlong,
+    array: JByteArray<'local>,
+    offset: jint,
+    remaining: jint,
+) -> jint {
+    let value = get_value_instance!(&mut env, ptr, || 0);
+    if let Value::Bytes(bytes) = value.as_ref() {
+        if bytes.len() <= remaining as usize {
+            let buf = unsafe { std::slice::from_raw_parts(bytes.as_ptr() as *const i8, bytes.len()) };
+            if let Err(e) = env.set_byte_array_region(&array, offset, buf) {
+                return SurrealError::from(e).exception(&mut env, || 0);
+            }
+        }
+        bytes.len() as jint
+    } else {
+        SurrealError::NullPointerException("Bytes").exception(&mut env, || 0)
+    }
+}
+
+#[no_mangle]
+pub extern "system" fn Java_com_surrealdb_Value_toCbor<'local>(
+    mut env: JNIEnv<'local>,
+    _class: JClass<'local>,
+    ptr: jlong,
+) -> jbyteArray {
+    let value = get_value_instance!(&mut env, ptr, null_mut);
+    let bytes = match cbor::encode(&value) {
+        Ok(b) => b,
+        Err(e) => return e.exception(&mut env, null_mut),
+    };
+    match env.byte_array_from_slice(&bytes) {
+        Ok(a) => a.as_jarray_raw(),
+        Err(e) => SurrealError::from(e).exception(&mut env, null_mut),
+    }
+}
+
+#[no_mangle]
+pub extern "system" fn Java_com_surrealdb_Value_writeCborDirect<'local>(
+    mut env: JNIEnv<'local>,
+    _class: JClass<'local>,
+    ptr: jlong,
+    buffer: JByteBuffer<'local>,
+    position: jint,
+    remaining: jint,
+) -> jint {
+    let value = get_value_instance!(&mut env, ptr, || 0);
+    let bytes = match cbor::encode(&value) {
+        Ok(b) => b,
+        Err(e) => return e.exception(&mut env, || 0),
+    };
+    // Nothing is written when the buffer is too small, the caller reports the overflow
+    if bytes.len() <= remaining as usize {
+        let addr = match env.get_direct_buffer_address(&buffer) {
+            Ok(a) => a,
+            Err(e) => return SurrealError::from(e).exception(&mut env, || 0),
+        };
+        unsafe {
+            std::ptr::copy_nonoverlapping(bytes.as_ptr(), addr.add(position as usize), bytes.len())
+        };
+    }
+    bytes.len() as jint
+}
+
+#[no_mangle]
+pub extern "system" fn Java_com_surrealdb_Value_writeCborArray<'local>(
+    mut env: JNIEnv<'local>,
+    _class: JClass<'local>,
+    ptr: jlong,
+    array: JByteArray<'local>,
+    offset: jint,
+    remaining: jint,
+) -> jint {
+    let value = get_value_instance!(&mut env, ptr, || 0);
+    let bytes = match cbor::encode(&value) {
+        Ok(b) => b,
+        Err(e) => return e.exception(&mut env, || 0),
+    };
+    if bytes.len() <= remaining as usize {
+        let buf = unsafe { std::slice::from_raw_parts(bytes.as_ptr() as *const i8, bytes.len()) };
+        if let Err(e) = env.set_byte_array_region(&array, offset, buf) {
+            return SurrealError::from(e).exception(&mut env, || 0);
+        }
+    }
+    bytes.len() as jint
+}
+
 #[no_mangle]
 pub extern "system" fn Java_com_surrealdb_Value_isLong<'local>(
     mut env: JNIEnv<'local>,
@@ -1,9 +1,65 @@
+use std::ptr::null_mut;
+use std::vec::IntoIter;
+
 use jni::objects::JClass;
-use jni::sys::{jboolean, jlong};
+use jni::sys::{jboolean, jint, jlong, jlongArray};
 use jni::JNIEnv;
+use surrealdb::sql::Value;
+
+use crate::sharedvalue::SharedValue;
+use crate::{
+    get_value_iterator_instance, get_value_iterator_mut_instance, new_jlong_array, JniTypes,
+};
 
-use crate::error::SurrealError;
-use crate::{get_value_iterator_instance, get_value_iterator_mut_instance, JniTypes};
+/// The elements of an array iterator.
+/// The elements of an array owned by the iterator, such as a query result, are moved out.
+/// The array of a Java `Array` is shared with it, and its elements share the same tree.
+pub(crate) enum ValueIter {
+    Owned(IntoIter<Value>),
+    Shared(SharedValue, usize),
+}
+
+impl ValueIter {
+    pub(crate) fn shared(array: SharedValue) -> Self {
+        Self::Shared(array, 0)
+    }
+}
+
+impl From<IntoIter<Value>> for ValueIter {
+    fn from(iter: IntoIter<Value>) -> Self {
+        Self::Owned(iter)
+    }
+}
+
+impl Iterator for ValueIter {
+    type Item = SharedValue;
+
+    fn next(&mut self) -> Option<SharedValue> {
+        match self {
+            Self::Owned(iter) => iter.next().map(SharedValue::from),
+            Self::Shared(array, pos) => {
+                let v = array.index(*pos);
+                if v.is_some() {
+                    *pos += 1;
+                }
+                v
+            }
+        }
+    }
+
+    fn size_hint(&self) -> (usize, Option<usize>) {
+        let len = match self {
+            Self::Owned(iter) => iter.len(),
+            Self::Shared(array, pos) => match array.as_ref() {
+                Value::Array(a) => a.len().saturating_sub(*pos),
+                _ => 0,
+            },
+        };
+        (len, Some(len))
+    }
+}
+
+impl ExactSizeIterator for ValueIter {}
 
 #[no_mangle]
 pub extern "system" fn Java_com_surrealdb_ValueIterator_hasNext<'local>(
@@ -16,15 +72,16 @@ pub extern "system" fn Java_com_surrealdb_ValueIterator_hasNext<'local>(
 }
 
 #[no_mangle]
-pub extern "system" fn Java_com_surrealdb_ValueIterator_next<'local>(
+pub extern "system" fn Java_com_surrealdb_ValueIterator_nextBatch<'local>(
     mut env: JNIEnv<'local>,
     _class: JClass<'local>,
     ptr: jlong,
-) -> jlong {
-    let iter = get_value_iterator_mut_instance!(&mut env, ptr, || 0);
-    if let Some(v) = iter.next() {
-        JniTypes::new_value(v.into())
-    } else {
-        SurrealError::NullPointerException("Value").exception(&mut env, || 0)
-    }
+    max: jint,
+) -> jlongArray {
+    let iter = get_value_iterator_mut_instance!(&mut env, ptr, null_mut);
+    let ptrs: Vec<jlong> = iter
+        .take(max.max(0) as usize)
+        .map(JniTypes::new_value)
+        .collect();
+    new_jlong_array!(&mut env, &ptrs, null_mut)
 }
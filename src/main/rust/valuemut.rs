@@ -4,16 +4,17 @@ use std::ptr::null_mut;
 use std::str::FromStr;
 
 use chrono::DateTime;
-use jni::objects::{JClass, JLongArray, JString};
-use jni::sys::{jboolean, jdouble, jint, jlong, jstring};
+use jni::objects::{JByteArray, JByteBuffer, JClass, JLongArray, JString};
+use jni::sys::{jboolean, jdouble, jint, jlong, jlongArray, jstring};
 use jni::JNIEnv;
 use rust_decimal::Decimal;
-use surrealdb::sql::{Array, Datetime, Duration, Number, Object, Strand, Uuid, Value};
+use surrealdb::sql::{Array, Bytes, Datetime, Duration, Number, Object, Strand, Uuid, Value};
 
+use crate::cbor;
 use crate::error::SurrealError;
 use crate::{
     create_instance, get_long_array, get_rust_string, get_value_instance, get_value_mut_instance,
-    new_string, take_entry_mut_instance, take_value_mut_instance, JniTypes,
+    new_jlong_array, new_string, take_entry_mut_instance, take_value_mut_instance, JniTypes,
 };
 
 #[no_mangle]
@@ -116,6 +117,87 @@ pub extern "system" fn Java_com_surrealdb_ValueMut_newDatetime<'local>(
     }
 }
 
+#[no_mangle]
+pub extern "system" fn Java_com_surrealdb_ValueMut_newBytesDirect<'local>(
+    mut env: JNIEnv<'local>,
+    _class: JClass<'local>,
+    buffer: JByteBuffer<'local>,
+    position: jint,
+    length: jint,
+) -> jlong {
+    let addr = match env.get_direct_buffer_address(&buffer) {
+        Ok(a) => a,
+        Err(e) => return SurrealError::from(e).exception(&mut env, || 0),
+    };
+    // The bytes are copied straight from the memory of the buffer
+    let bytes =
+        unsafe { std::slice::from_raw_parts(addr.add(position as usize), length as usize) };
+    let value = Value::Bytes(Bytes::from(bytes.to_vec()));
+    JniTypes::new_value_mut(value)
+}
+
+#[no_mangle]
+pub extern "system" fn Java_com_surrealdb_ValueMut_newBytesArray<'local>(
+    mut env: JNIEnv<'local>,
+    _class: JClass<'local>,
+    array: JByteArray<'local>,
+    offset: jint,
+    length: jint,
+) -> jlong {
+    let mut bytes = vec![0u8; length as usize];
+    // jbyte is signed, the region is copied into the unsigned buffer as is
+    let buf = unsafe { std::slice::from_raw_parts_mut(bytes.as_mut_ptr() as *mut i8, bytes.len()) };
+    if let Err(e) = env.get_byte_array_region(&array, offset, buf) {
+        return SurrealError::from(e).exception(&mut env, || 0);
+    }
+    let value = Value::Bytes(Bytes::from(bytes));
+    JniTypes::new_value_mut(value)
+}
+
+#[no_mangle]
+pub extern "system" fn Java_com_surrealdb_ValueMut_fromCborDirect<'local>(
+    mut env: JNIEnv<'local>,
+    _class: JClass<'local>,
+    buffer: JByteBuffer<'local>,
+    position: jint,
+    length: jint,
+) -> jlongArray {
+    let addr = match env.get_direct_buffer_address(&buffer) {
+        Ok(a) => a,
+        Err(e) => return SurrealError::from(e).exception(&mut env, null_mut),
+    };
+    // The value is decoded straight from the memory of the buffer
+    let bytes =
+        unsafe { std::slice::from_raw_parts(addr.add(position as usize), length as usize) };
+    let (value, read) = match cbor::decode(bytes) {
+        Ok(r) => r,
+        Err(e) => return e.exception(&mut env, null_mut),
+    };
+    let res = [JniTypes::new_value_mut(value), read as jlong];
+    new_jlong_array!(&mut env, &res, null_mut)
+}
+
+#[no_mangle]
+pub extern "system" fn Java_com_surrealdb_ValueMut_fromCborArray<'local>(
+    mut env: JNIEnv<'local>,
+    _class: JClass<'local>,
+    array: JByteArray<'local>,
+    offset: jint,
+    length: jint,
+) -> jlongArray {
+    let mut bytes = vec![0u8; length as usize];
+    let buf = unsafe { std::slice::from_raw_parts_mut(bytes.as_mut_ptr() as *mut i8, bytes.len()) };
+    if let Err(e) = env.get_byte_array_region(&array, offset, buf) {
+        return SurrealError::from(e).exception(&mut env, null_mut);
+    }
+    let (value, read) = match cbor::decode(&bytes) {
+        Ok(r) => r,
+        Err(e) => return e.exception(&mut env, null_mut),
+    };
+    let res = [JniTypes::new_value_mut(value), read as jlong];
+    new_jlong_array!(&mut env, &res, null_mut)
+}
+
 #[no_mangle]
 pub extern "system" fn Java_com_surrealdb_ValueMut_newId<'local>(
     mut env: JNIEnv<'local>,
@@ -0,0 +1,106 @@
+package com.surrealdb;
+
+import com.surrealdb.pojos.Name;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ArrayTests {
+
+    private static Array array(Surreal surreal, String sql) {
+        return surreal.query("RETURN " + sql).take(0).getArray();
+    }
+
+    @Test
+    void toLongArray() {
+        try (final Surreal surreal = new Surreal()) {
+            surreal.connect("memory").useNs("test_ns").useDb("test_db");
+            assertArrayEquals(new long[]{1, 2, 3}, array(surreal, "[1, 2, 3]").toLongArray());
+            assertArrayEquals(new long[0], array(surreal, "[]").toLongArray());
+            final SurrealException e = assertThrows(SurrealException.class, () -> array(surreal, "[1, 2.5, 3]").toLongArray());
+            assertTrue(e.getMessage().contains("index 1"), e.getMessage());
+        }
+    }
+
+    @Test
+    void toDoubleArray() {
+        try (final Surreal surreal = new Surreal()) {
+            surreal.connect("memory").useNs("test_ns").useDb("test_db");
+            assertArrayEquals(new double[]{1, 2.5, 3.25}, array(surreal, "[1, 2.5, 3.25dec]").toDoubleArray());
+            assertThrows(SurrealException.class, () -> array(surreal, "[1, NULL]").toDoubleArray());
+        }
+    }
+
+    @Test
+    void toStringArray() {
+        try (final Surreal surreal = new Surreal()) {
+            surreal.connect("memory").useNs("test_ns").useDb("test_db");
+            assertArrayEquals(new String[]{"a", "b"}, array(surreal, "['a', 'b']").toStringArray());
+            assertThrows(SurrealException.class, () -> array(surreal, "['a', 1]").toStringArray());
+        }
+    }
+
+    @Test
+    void primitiveIterators() {
+        try (final Surreal surreal = new Surreal()) {
+            surreal.connect("memory").useNs("test_ns").useDb("test_db");
+            final Array numbers = array(surreal, "(0..10000).map(|$i| $i)");
+            final PrimitiveIterator.OfLong longs = numbers.longIterator();
+            long sum = 0;
+            while (longs.hasNext()) {
+                sum += longs.nextLong();
+            }
+            assertEquals(49_995_000, sum);
+            final PrimitiveIterator.OfDouble doubles = array(surreal, "[0.5, 1.5]").doubleIterator();
+            assertEquals(0.5, doubles.nextDouble());
+            assertEquals(1.5, doubles.nextDouble());
+            assertFalse(doubles.hasNext());
+        }
+    }
+
+    @Test
+    void toList() {
+        try (final Surreal surreal = new Surreal()) {
+            surreal.connect("memory").useNs("test_ns").useDb("test_db");
+            final List<Value> values = array(surreal, "[1, 'a', true]").toList();
+            assertEquals(3, values.size());
+            assertEquals(1, values.get(0).getLong());
+            assertEquals("a", values.get(1).getString());
+            assertTrue(values.get(2).getBoolean());
+            assertTrue(array(surreal, "[]").toList().isEmpty());
+            assertEquals(Arrays.asList(new Name("Tobie", "Morgan Hitchcock"), new Name("Jaime", "Morgan Hitchcock")),
+                array(surreal, "[{ first: 'Tobie', last: 'Morgan Hitchcock' }, { first: 'Jaime', last: 'Morgan Hitchcock' }]").toList(Name.class));
+        }
+    }
+
+    @Test
+    void iteratorBatches() {
+        try (final Surreal surreal = new Surreal()) {
+            surreal.connect("memory").useNs("test_ns").useDb("test_db");
+            final Array numbers = array(surreal, "(0..1000).map(|$i| $i)");
+            // Spans several native batches
+            long expected = 0;
+            for (final Value value : numbers) {
+                assertEquals(expected++, value.getLong());
+            }
+            assertEquals(1000, expected);
+            final ValueIterator iterator = (ValueIterator) numbers.iterator();
+            assertEquals(0, iterator.next().getLong());
+            final Value[] buf = new Value[600];
+            assertEquals(600, iterator.nextBatch(buf));
+            assertEquals(1, buf[0].getLong());
+            assertEquals(600, buf[599].getLong());
+            assertEquals(399, iterator.nextBatch(buf));
+            assertEquals(999, buf[398].getLong());
+            assertFalse(iterator.hasNext());
+            assertThrows(NoSuchElementException.class, iterator::next);
+            // The array is left untouched by its iterators
+            assertEquals(1000, numbers.len());
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.surrealdb;
+
+import com.surrealdb.pojos.Person;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Collectors;
+
+import static com.surrealdb.Helpers.jaime;
+import static com.surrealdb.Helpers.tobie;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AsyncTests {
+
+    @Test
+    void queryAsync() {
+        try (final Surreal surreal = new Surreal()) {
+            surreal.connect("memory").useNs("test_ns").useDb("test_db");
+            final Response response = surreal.queryAsync("CREATE person:1 SET name = 'Tobie'; SELECT * FROM person;").join();
+            assertEquals(2, response.size());
+            assertEquals("[{ id: person:1, name: 'Tobie' }]", response.take(1).toString());
+        }
+    }
+
+    @Test
+    void queryBindAsync() {
+        try (final Surreal surreal = new Surreal()) {
+            surreal.connect("memory").useNs("test_ns").useDb("test_db");
+            final Response response = surreal.queryBindAsync("RETURN $name", Collections.singletonMap("name", "Tobie")).join();
+            assertEquals("Tobie", response.take(0).getString());
+        }
+    }
+
+    @Test
+    void queryAsyncError() {
+        try (final Surreal surreal = new Surreal()) {
+            surreal.connect("memory").useNs("test_ns").useDb("test_db");
+            final CompletionException e = assertThrows(CompletionException.class, () -> surreal.queryAsync("SELEC * FROM person").join());
+            assertInstanceOf(SurrealException.class, e.getCause());
+        }
+    }
+
+    @Test
+    void manyQueriesInFlight() {
+        try (final Surreal surreal = new Surreal()) {
+            surreal.connect("memory").useNs("test_ns").useDb("test_db");
+            final List<CompletableFuture<Value>> futures = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                futures.add(surreal.createAsync(new RecordId("person", i), tobie));
+            }
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+            final List<Person> persons = futures.stream().map(f -> f.join().get(Person.class)).collect(Collectors.toList());
+            assertEquals(100, persons.size());
+            assertEquals(100, surreal.query("SELECT * FROM person").take(0).getArray().len());
+        }
+    }
+
+    @Test
+    void crudAsync() {
+        try (final Surreal surreal = new Surreal()) {
+            surreal.connect("memory").useNs("test_ns").useDb("test_db");
+            final List<Person> inserted = surreal.insertAsync(Person.class, "person", tobie, jaime).join();
+            assertEquals(2, inserted.size());
+            final RecordId id = inserted.get(0).id;
+            // Select
+            final Optional<Person> selected = surreal.selectAsync(Person.class, id).join();
+            assertEquals(Optional.of(inserted.get(0)), selected);
+            // Update
+            final Person updated = surreal.updateAsync(Person.class, id, UpType.CONTENT, jaime).join();
+            assertEquals("Jaime", updated.name);
+            // Upsert
+            final Person upserted = surreal.upsertAsync(Person.class, new RecordId("person", "emmanuel"), UpType.CONTENT, tobie).join();
+            assertEquals("Tobie", upserted.name);
+            // Delete
+            surreal.deleteAsync(id).join();
+            assertEquals(Optional.empty(), surreal.selectAsync(id).join());
+            // Select all
+            final List<Person> all = SelectTests.toList(surreal.selectAsync(Person.class, "person").join(), false);
+            assertEquals(2, all.size());
+        }
+    }
+}
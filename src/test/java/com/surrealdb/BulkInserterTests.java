@@ -0,0 +1,72 @@
+package com.surrealdb;
+
+import com.surrealdb.pojos.Person;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BulkInserterTests {
+
+    private static long count(Surreal surreal, String table) {
+        final Array rows = surreal.query("SELECT count() FROM " + table + " GROUP ALL").take(0).getArray();
+        return rows.len() == 0 ? 0 : rows.get(0).getObject().get("count").getLong();
+    }
+
+    @Test
+    void bulkInsert() {
+        try (final Surreal surreal = new Surreal()) {
+            surreal.connect("memory").useNs("test_ns").useDb("test_db");
+            final Stream<Person> persons = IntStream.range(0, 25_000)
+                .mapToObj(i -> new Person("Person " + i, Collections.emptyList(), i, true, Collections.emptyList()));
+            final BulkInsertReport report = surreal.<Person>bulkInserter("person")
+                .chunkSize(500)
+                .maxInFlight(3)
+                .insert(persons);
+            assertEquals(25_000, report.getInserted());
+            assertEquals(0, report.getFailed());
+            assertTrue(report.getFailures().isEmpty());
+            assertTrue(report.getRowsPerSecond() > 0);
+            assertEquals(25_000, count(surreal, "person"));
+        }
+    }
+
+    @Test
+    void bulkInsertFixedChunks() {
+        try (final Surreal surreal = new Surreal()) {
+            surreal.connect("memory").useNs("test_ns").useDb("test_db");
+            final BulkInsertReport report = surreal.<Integer>bulkInserter("number")
+                .chunkSize(7)
+                .adaptive(false)
+                .targetLatency(Duration.ofMillis(10))
+                .insert(IntStream.range(0, 100).boxed().iterator());
+            // Plain numbers are not valid records, every chunk fails
+            assertEquals(0, report.getInserted());
+            assertEquals(100, report.getFailed());
+            assertEquals(15, report.getFailures().size());
+        }
+    }
+
+    @Test
+    void bulkInsertPartialFailure() {
+        try (final Surreal surreal = new Surreal()) {
+            surreal.connect("memory").useNs("test_ns").useDb("test_db");
+            surreal.query("DEFINE TABLE item SCHEMAFULL; DEFINE FIELD value ON item TYPE int;");
+            final BulkInsertReport report = surreal.<java.lang.Object>bulkInserter("item")
+                .chunkSize(10)
+                .adaptive(false)
+                .insert(IntStream.range(0, 50).mapToObj(i -> Collections.singletonMap("value", i == 25 ? "bad" : i)));
+            assertEquals(40, report.getInserted());
+            assertEquals(10, report.getFailed());
+            final BulkInsertReport.Failure failure = report.getFailures().get(0);
+            assertEquals(20, failure.getOffset());
+            assertEquals(10, failure.getCount());
+            assertInstanceOf(SurrealException.class, failure.getCause());
+            assertEquals(40, count(surreal, "item"));
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.surrealdb;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BytesTests {
+
+    private static final int LARGE = 5 * 1024 * 1024;
+
+    private static Value roundTrip(Surreal surreal, Object bytes) {
+        return surreal.queryBind("RETURN $b", Collections.singletonMap("b", bytes)).take(0);
+    }
+
+    private static ByteBuffer filled(ByteBuffer buffer) {
+        for (int i = 0; buffer.hasRemaining(); i++) {
+            buffer.put((byte) i);
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+    @Test
+    void directBuffer() {
+        try (final Surreal surreal = new Surreal()) {
+            surreal.connect("memory").useNs("test_ns").useDb("test_db");
+            final ByteBuffer src = filled(ByteBuffer.allocateDirect(LARGE));
+            final Value value = roundTrip(surreal, src);
+            assertTrue(value.isBytes());
+            // The bound buffer is left untouched
+            assertEquals(0, src.position());
+            final ByteBuffer dst = ByteBuffer.allocateDirect(LARGE);
+            assertEquals(LARGE, value.getBytes(dst));
+            assertFalse(dst.hasRemaining());
+            dst.flip();
+            assertEquals(src, dst);
+        }
+    }
+
+    @Test
+    void heapBuffer() {
+        try (final Surreal surreal = new Surreal()) {
+            surreal.connect("memory").useNs("test_ns").useDb("test_db");
+            final ByteBuffer src = filled(ByteBuffer.allocate(16));
+            src.position(4);
+            final Value value = roundTrip(surreal, src.slice());
+            final ByteBuffer dst = ByteBuffer.allocate(20);
+            dst.position(2);
+            assertEquals(12, value.getBytes(dst));
+            assertEquals(14, dst.position());
+            dst.flip().position(2);
+            assertEquals(src, dst);
+        }
+    }
+
+    @Test
+    void createBytes() {
+        final ByteBuffer src = ByteBuffer.wrap(new byte[]{1, 2, 3});
+        final ValueMut value = ValueMut.createBytes(src);
+        assertFalse(src.hasRemaining());
+        assertNotNull(value);
+        assertNotNull(ValueMut.createBytes(src.asReadOnlyBuffer()));
+    }
+
+    @Test
+    void overflow() {
+        try (final Surreal surreal = new Surreal()) {
+            surreal.connect("memory").useNs("test_ns").useDb("test_db");
+            final Value value = roundTrip(surreal, new byte[]{1, 2, 3, 4});
+            final ByteBuffer dst = ByteBuffer.allocateDirect(3);
+            assertThrows(BufferOverflowException.class, () -> value.getBytes(dst));
+            assertEquals(0, dst.position());
+        }
+    }
+
+}
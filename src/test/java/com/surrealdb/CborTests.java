@@ -0,0 +1,89 @@
+package com.surrealdb;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CborTests {
+
+    private static final String SQL = "{ id: person:tobie, name: 'Tobie', age: 42, score: 1.5dec, tags: ['a', 'b'], " +
+        "born: d'2000-01-01T00:00:00Z', ttl: 1h30m, none: NONE, nothing: NULL, uuid: u'0192ea3d-5f3d-7d3f-9e4f-6b1a1f1f1f1f' }";
+
+    private static Value decoded(Surreal surreal, ValueMut value) {
+        return surreal.queryBind("RETURN $v", Collections.singletonMap("v", value)).take(0);
+    }
+
+    @Test
+    void roundTrip() {
+        try (final Surreal surreal = new Surreal()) {
+            surreal.connect("memory").useNs("test_ns").useDb("test_db");
+            final Value value = surreal.query("RETURN " + SQL).take(0);
+            final byte[] bytes = value.toCbor();
+            assertEquals(value.toString(), decoded(surreal, ValueMut.fromCbor(bytes)).toString());
+        }
+    }
+
+    @Test
+    void directBuffer() {
+        try (final Surreal surreal = new Surreal()) {
+            surreal.connect("memory").useNs("test_ns").useDb("test_db");
+            final Value first = surreal.query("RETURN " + SQL).take(0);
+            final Value second = surreal.query("RETURN [1, 2, 3]").take(0);
+            final ByteBuffer buffer = ByteBuffer.allocateDirect(1024);
+            final int length = first.writeCbor(buffer) + second.writeCbor(buffer);
+            assertEquals(length, buffer.position());
+            buffer.flip();
+            // Consecutive values are read one after the other
+            assertEquals(first.toString(), decoded(surreal, ValueMut.fromCbor(buffer)).toString());
+            assertEquals(second.toString(), decoded(surreal, ValueMut.fromCbor(buffer)).toString());
+            assertFalse(buffer.hasRemaining());
+        }
+    }
+
+    @Test
+    void heapBuffer() {
+        try (final Surreal surreal = new Surreal()) {
+            surreal.connect("memory").useNs("test_ns").useDb("test_db");
+            final Value value = surreal.query("RETURN " + SQL).take(0);
+            final ByteBuffer buffer = ByteBuffer.allocate(1024);
+            value.writeCbor(buffer);
+            buffer.flip();
+            assertEquals(value.toString(), decoded(surreal, ValueMut.fromCbor(buffer.asReadOnlyBuffer())).toString());
+            assertEquals(value.toString(), decoded(surreal, ValueMut.fromCbor(buffer)).toString());
+        }
+    }
+
+    @Test
+    void outputStream() throws IOException {
+        try (final Surreal surreal = new Surreal()) {
+            surreal.connect("memory").useNs("test_ns").useDb("test_db");
+            final Value value = surreal.query("RETURN " + SQL).take(0);
+            final ByteArrayOutputStream out = new ByteArrayOutputStream();
+            assertEquals(value.writeCbor(out), out.size());
+            assertArrayEquals(value.toCbor(), out.toByteArray());
+        }
+    }
+
+    @Test
+    void overflow() {
+        try (final Surreal surreal = new Surreal()) {
+            surreal.connect("memory").useNs("test_ns").useDb("test_db");
+            final Value value = surreal.query("RETURN " + SQL).take(0);
+            final ByteBuffer buffer = ByteBuffer.allocateDirect(8);
+            assertThrows(BufferOverflowException.class, () -> value.writeCbor(buffer));
+            assertEquals(0, buffer.position());
+        }
+    }
+
+    @Test
+    void invalid() {
+        assertThrows(SurrealException.class, () -> ValueMut.fromCbor(new byte[]{(byte) 0xff}));
+        assertThrows(SurrealException.class, () -> ValueMut.fromCbor(new byte[0]));
+    }
+}
@@ -0,0 +1,100 @@
+package com.surrealdb;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ClassMapperTests {
+
+    public static class Base {
+        public String name;
+        public long count;
+    }
+
+    public static class Derived extends Base {
+        public int count;
+        public double ratio;
+        public List<Base> children;
+        public Map<String, Long> scores;
+    }
+
+    public static class WithStatic {
+        public static String label = "static";
+        public String name;
+    }
+
+    public static class NoDefaultConstructor {
+        public String name;
+
+        public NoDefaultConstructor(String name) {
+            this.name = name;
+        }
+    }
+
+    @Test
+    void mapperIsCached() {
+        assertSame(ClassMapper.of(Derived.class), ClassMapper.of(Derived.class));
+        assertNull(ClassMapper.of(Derived.class).field("unknown"));
+        // The field of the subclass hides the field of the superclass
+        assertEquals(Integer.TYPE, ClassMapper.of(Derived.class).field("count").type);
+        assertEquals(Base.class, ClassMapper.of(Derived.class).field("children").elementType);
+        assertEquals(Long.class, ClassMapper.of(Derived.class).field("scores").valueType);
+    }
+
+    @Test
+    void convert() {
+        try (final Surreal surreal = new Surreal()) {
+            surreal.connect("memory").useNs("test_ns").useDb("test_db");
+            final Value value = surreal.query("RETURN { name: 'a', count: 3, ratio: 2, extra: 'ignored', " +
+                "children: [{ name: 'b', count: 1, other: true }], scores: { x: 1, y: 2 } }").take(0);
+            final Derived derived = value.get(Derived.class);
+            assertEquals("a", derived.name);
+            assertEquals(3, derived.count);
+            assertEquals(2.0, derived.ratio);
+            assertEquals(1, derived.children.size());
+            assertEquals("b", derived.children.get(0).name);
+            assertEquals(1, derived.children.get(0).count);
+            assertEquals(2L, derived.scores.get("y"));
+        }
+    }
+
+    @Test
+    void manyRows() {
+        try (final Surreal surreal = new Surreal()) {
+            surreal.connect("memory").useNs("test_ns").useDb("test_db");
+            final Array rows = surreal.query("RETURN (0..10000).map(|$i| { name: <string> $i, count: $i, unknown: $i })")
+                .take(0).getArray();
+            final Iterator<Base> iterator = rows.iterator(Base.class);
+            long sum = 0;
+            while (iterator.hasNext()) {
+                sum += iterator.next().count;
+            }
+            assertEquals(49_995_000, sum);
+        }
+    }
+
+    @Test
+    void staticFieldsAreSkipped() {
+        assertNull(ClassMapper.of(WithStatic.class).field("label"));
+        try (final Surreal surreal = new Surreal()) {
+            surreal.connect("memory").useNs("test_ns").useDb("test_db");
+            final Value value = surreal.query("RETURN { name: 'a', label: 'b' }").take(0);
+            assertEquals("a", value.get(WithStatic.class).name);
+            assertEquals("static", WithStatic.label);
+        }
+    }
+
+    @Test
+    void missingConstructor() {
+        try (final Surreal surreal = new Surreal()) {
+            surreal.connect("memory").useNs("test_ns").useDb("test_db");
+            final Value value = surreal.query("RETURN { name: 'a' }").take(0);
+            final SurrealException e = assertThrows(SurrealException.class, () -> value.get(NoDefaultConstructor.class));
+            assertInstanceOf(NoSuchMethodException.class, e.getCause());
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.surrealdb;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ColumnTests {
+
+    private static final String ROWS = "RETURN [" +
+        "{ n: 1, f: 1.5, s: 'a' }," +
+        "{ n: 2, f: 2, s: NULL }," +
+        "{ f: 3.5dec }," +
+        "{ n: NONE, f: NULL, s: 'd' }" +
+        "]";
+
+    @Test
+    void longColumn() {
+        try (final Surreal surreal = new Surreal()) {
+            surreal.connect("memory").useNs("test_ns").useDb("test_db");
+            final Array rows = surreal.query(ROWS).take(0).getArray();
+            final long[] values = new long[rows.len()];
+            final boolean[] nulls = rows.column("n", values);
+            assertArrayEquals(new long[]{1, 2, 0, 0}, values);
+            assertArrayEquals(new boolean[]{false, false, true, true}, nulls);
+        }
+    }
+
+    @Test
+    void doubleColumn() {
+        try (final Surreal surreal = new Surreal()) {
+            surreal.connect("memory").useNs("test_ns").useDb("test_db");
+            final Array rows = surreal.query(ROWS).take(0).getArray();
+            final double[] values = new double[rows.len()];
+            final boolean[] nulls = rows.column("f", values);
+            assertArrayEquals(new double[]{1.5, 2, 3.5, 0}, values);
+            assertArrayEquals(new boolean[]{false, false, false, true}, nulls);
+        }
+    }
+
+    @Test
+    void stringColumn() {
+        try (final Surreal surreal = new Surreal()) {
+            surreal.connect("memory").useNs("test_ns").useDb("test_db");
+            final Array rows = surreal.query(ROWS).take(0).getArray();
+            final String[] values = new String[rows.len()];
+            // A reused array keeps no value from a previous call
+            Arrays.fill(values, "stale");
+            final boolean[] nulls = rows.column("s", values);
+            assertArrayEquals(new String[]{"a", null, null, "d"}, values);
+            assertArrayEquals(new boolean[]{false, true, true, false}, nulls);
+        }
+    }
+
+    @Test
+    void inferredColumn() {
+        try (final Surreal surreal = new Surreal()) {
+            surreal.connect("memory").useNs("test_ns").useDb("test_db");
+            final Response response = surreal.query(ROWS + ";" + ROWS + ";" + ROWS + ";" + ROWS);
+            final Column n = response.takeColumn(0, "n");
+            assertTrue(n.isLong());
+            assertEquals(4, n.size());
+            assertTrue(n.isNull(2));
+            assertEquals(2, n.getLongs()[1]);
+            assertThrows(SurrealException.class, n::getDoubles);
+            final Column f = response.takeColumn(1, "f");
+            assertTrue(f.isDouble());
+            assertEquals(3.5, f.getDoubles()[2]);
+            final Column s = response.takeColumn(2, "s");
+            assertTrue(s.isString());
+            assertEquals("d", s.getStrings()[3]);
+            final Column missing = response.takeColumn(3, "missing");
+            assertTrue(missing.isLong());
+            assertArrayEquals(new boolean[]{true, true, true, true}, missing.getNulls());
+        }
+    }
+
+    @Test
+    void largeColumn() {
+        try (final Surreal surreal = new Surreal()) {
+            surreal.connect("memory").useNs("test_ns").useDb("test_db");
+            final Array rows = surreal.query("RETURN (0..100000).map(|$i| { n: $i })").take(0).getArray();
+            final long[] values = new long[rows.len()];
+            rows.column("n", values);
+            for (int i = 0; i < values.length; i++) {
+                assertEquals(i, values[i]);
+            }
+        }
+    }
+
+    @Test
+    void columnErrors() {
+        try (final Surreal surreal = new Surreal()) {
+            surreal.connect("memory").useNs("test_ns").useDb("test_db");
+            final Array rows = surreal.query(ROWS).take(0).getArray();
+            // Not an integer
+            assertThrows(SurrealException.class, () -> rows.column("f", new long[4]));
+            // Not a number
+            assertThrows(SurrealException.class, () -> rows.column("s", new double[4]));
+            // Strings and numbers
+            final Array mixed = surreal.query("RETURN [{ v: 1 }, { v: 'a' }]").take(0).getArray();
+            assertThrows(SurrealException.class, () -> mixed.column("v"));
+            // Neither numbers nor strings
+            final Array booleans = surreal.query("RETURN [{ v: true }]").take(0).getArray();
+            assertThrows(SurrealException.class, () -> booleans.column("v"));
+            // Output too short
+            assertThrows(IllegalArgumentException.class, () -> rows.column("n", new long[2]));
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.surrealdb;
+
+import com.surrealdb.pojos.Person;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static com.surrealdb.Helpers.jaime;
+import static com.surrealdb.Helpers.tobie;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ExecutionModeTests {
+
+    @Test
+    void parkingQuery() {
+        try (final Surreal surreal = new Surreal()) {
+            surreal.connect("memory").useNs("test_ns").useDb("test_db").executionMode(ExecutionMode.PARKING);
+            final Response response = surreal.query("CREATE person:1 SET name = 'Tobie'; SELECT * FROM person;");
+            assertEquals(2, response.size());
+            assertEquals("[{ id: person:1, name: 'Tobie' }]", response.take(1).toString());
+            assertEquals("Tobie", surreal.queryBind("RETURN $name", Collections.singletonMap("name", "Tobie")).take(0).getString());
+        }
+    }
+
+    @Test
+    void parkingError() {
+        try (final Surreal surreal = new Surreal()) {
+            surreal.connect("memory").useNs("test_ns").useDb("test_db").executionMode(ExecutionMode.PARKING);
+            assertThrows(SurrealException.class, () -> surreal.query("SELEC * FROM person"));
+        }
+    }
+
+    @Test
+    void parkingCrud() {
+        try (final Surreal surreal = new Surreal()) {
+            surreal.connect("memory").useNs("test_ns").useDb("test_db").executionMode(ExecutionMode.PARKING);
+            final List<Person> inserted = surreal.insert(Person.class, "person", tobie, jaime);
+            assertEquals(2, inserted.size());
+            final RecordId id = inserted.get(0).id;
+            assertEquals(Optional.of(inserted.get(0)), surreal.select(Person.class, id));
+            assertEquals("Jaime", surreal.update(Person.class, id, UpType.CONTENT, jaime).name);
+            assertEquals("Tobie", surreal.upsert(Person.class, new RecordId("person", "emmanuel"), UpType.CONTENT, tobie).name);
+            surreal.delete(id);
+            assertEquals(Optional.empty(), surreal.select(id));
+            assertEquals(2, SelectTests.toList(surreal.select(Person.class, "person"), false).size());
+        }
+    }
+
+    @Test
+    void blockingAndParkingAgree() {
+        try (final Surreal surreal = new Surreal()) {
+            surreal.connect("memory").useNs("test_ns").useDb("test_db");
+            final Value created = surreal.executionMode(ExecutionMode.BLOCKING).create(new RecordId("person", 1), tobie);
+            final Optional<Value> selected = surreal.executionMode(ExecutionMode.PARKING).select(new RecordId("person", 1));
+            assertEquals(Optional.of(created), selected);
+        }
+    }
+}
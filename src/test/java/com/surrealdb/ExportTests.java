@@ -0,0 +1,93 @@
+package com.surrealdb;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ExportTests {
+
+    private static long count(Surreal surreal, String table) {
+        final Array rows = surreal.query("SELECT count() FROM " + table + " GROUP ALL").take(0).getArray();
+        return rows.len() == 0 ? 0 : rows.get(0).getObject().get("count").getLong();
+    }
+
+    private static void createPersons(Surreal surreal, int count) {
+        surreal.query("FOR $i IN 0.." + count + " { CREATE type::thing('person', $i) SET name = 'Person ' + <string> $i, age = $i }");
+    }
+
+    @Test
+    void exportNdjson(@TempDir Path dir) throws IOException {
+        final Path file = dir.resolve("person.ndjson");
+        try (final Surreal surreal = new Surreal()) {
+            surreal.connect("memory").useNs("test_ns").useDb("test_db");
+            createPersons(surreal, 2_500);
+            final ExportReport report = surreal.exportTable("person", file, ExportFormat.NDJSON, 1000);
+            assertEquals(2_500, report.getRecords());
+            assertEquals(3, report.getPages());
+            assertEquals(Files.size(file), report.getBytes());
+            final List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+            assertEquals(2_500, lines.size());
+            assertTrue(lines.get(0).contains("\"name\":\"Person 0\""), lines.get(0));
+            // The id is written as the key of the record
+            assertTrue(lines.get(0).contains("\"id\":0"), lines.get(0));
+            // The export can be imported back
+            surreal.query("DELETE person");
+            assertEquals(2_500, surreal.importFile(file, "person", ImportFormat.NDJSON).getRecords());
+            assertEquals(2_500, count(surreal, "person"));
+            final Value person = surreal.select(new RecordId("person", 42)).get();
+            assertEquals("Person 42", person.getObject().get("name").getString());
+            assertTrue(person.getObject().get("age").isLong());
+            assertEquals(42, person.getObject().get("age").getLong());
+        }
+    }
+
+    @Test
+    void exportSurrealQl(@TempDir Path dir) {
+        final Path file = dir.resolve("person.surql");
+        try (final Surreal surreal = new Surreal()) {
+            surreal.connect("memory").useNs("test_ns").useDb("test_db");
+            createPersons(surreal, 2_000);
+            final ExportReport report = surreal.exportTable("person", file, ExportFormat.SURREALQL, 1000);
+            assertEquals(2_000, report.getRecords());
+            assertEquals(2, report.getPages());
+            surreal.query("DELETE person");
+            surreal.importDatabase(file);
+            assertEquals(2_000, count(surreal, "person"));
+            final Value person = surreal.select(new RecordId("person", 42)).get();
+            assertEquals("Person 42", person.getObject().get("name").getString());
+        }
+    }
+
+    @Test
+    void exportEmptyTable(@TempDir Path dir) throws IOException {
+        final Path file = dir.resolve("empty.ndjson");
+        try (final Surreal surreal = new Surreal()) {
+            surreal.connect("memory").useNs("test_ns").useDb("test_db");
+            final ExportReport report = surreal.exportTable("person", file, ExportFormat.NDJSON);
+            assertEquals(0, report.getRecords());
+            assertEquals(0, report.getPages());
+            assertEquals(0, Files.size(file));
+        }
+    }
+
+    @Test
+    void exportImportDatabase(@TempDir Path dir) {
+        final Path file = dir.resolve("database.surql");
+        try (final Surreal surreal = new Surreal()) {
+            surreal.connect("memory").useNs("test_ns").useDb("test_db");
+            surreal.query("DEFINE TABLE person SCHEMALESS");
+            createPersons(surreal, 100);
+            surreal.exportDatabase(file);
+            surreal.useDb("copy_db");
+            surreal.importDatabase(file);
+            assertEquals(100, count(surreal, "person"));
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.surrealdb;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ImportTests {
+
+    private static long count(Surreal surreal, String table) {
+        final Array rows = surreal.query("SELECT count() FROM " + table + " GROUP ALL").take(0).getArray();
+        return rows.len() == 0 ? 0 : rows.get(0).getObject().get("count").getLong();
+    }
+
+    @Test
+    void importNdjson(@TempDir Path dir) throws IOException {
+        final Path file = dir.resolve("person.ndjson");
+        try (final BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            for (int i = 0; i < 2_500; i++) {
+                writer.write("{\"name\":\"Person " + i + "\",\"age\":" + i + "}\n");
+                if (i % 1000 == 0) {
+                    writer.write("\n");
+                }
+            }
+        }
+        try (final Surreal surreal = new Surreal()) {
+            surreal.connect("memory").useNs("test_ns").useDb("test_db");
+            final ImportReport report = surreal.importFile(file, "person", ImportFormat.NDJSON);
+            assertEquals(2_500, report.getRecords());
+            assertEquals(3, report.getBatches());
+            assertEquals(Files.size(file), report.getBytes());
+            assertEquals(2_500, count(surreal, "person"));
+            final Value person = surreal.query("SELECT * FROM person WHERE age = 42").take(0).getArray().get(0);
+            assertEquals("Person 42", person.getObject().get("name").getString());
+        }
+    }
+
+    @Test
+    void importCsv(@TempDir Path dir) throws IOException {
+        final Path file = dir.resolve("person.csv");
+        Files.write(file, String.join("\n",
+            "id,name,age,active,note",
+            "1,Tobie,33,true,\"founder, CEO\"",
+            "2,Jaime,35,false,",
+            "3,\"Emmanuel \"\"Manu\"\"\",28,true,\"multi",
+            "line\"",
+            "4,\"42\",,true,plain"
+        ).getBytes(StandardCharsets.UTF_8));
+        try (final Surreal surreal = new Surreal()) {
+            surreal.connect("memory").useNs("test_ns").useDb("test_db");
+            final ImportReport report = surreal.importFile(file, "person", ImportFormat.CSV, 2);
+            assertEquals(4, report.getRecords());
+            assertEquals(2, report.getBatches());
+            final Array rows = surreal.query("SELECT * FROM person ORDER BY id").take(0).getArray();
+            assertEquals(4, rows.len());
+            final Object tobie = rows.get(0).getObject();
+            assertEquals(new RecordId("person", 1), tobie.get("id").getThing());
+            assertEquals(33, tobie.get("age").getLong());
+            assertTrue(tobie.get("active").getBoolean());
+            assertEquals("founder, CEO", tobie.get("note").getString());
+            assertTrue(rows.get(1).getObject().get("note").isNone());
+            assertEquals("Emmanuel \"Manu\"", rows.get(2).getObject().get("name").getString());
+            assertEquals("multi\nline", rows.get(2).getObject().get("note").getString());
+            // Quoted values stay strings
+            assertEquals("42", rows.get(3).getObject().get("name").getString());
+        }
+    }
+
+    @Test
+    void importInvalidLine(@TempDir Path dir) throws IOException {
+        final Path file = dir.resolve("person.ndjson");
+        Files.write(file, Arrays.asList("{\"name\":\"Tobie\"}", "{\"name\":"), StandardCharsets.UTF_8);
+        try (final Surreal surreal = new Surreal()) {
+            surreal.connect("memory").useNs("test_ns").useDb("test_db");
+            final SurrealException e = assertThrows(SurrealException.class, () -> surreal.importFile(file, "person", ImportFormat.NDJSON));
+            assertTrue(e.getMessage().contains("line 2"), e.getMessage());
+        }
+    }
+
+    @Test
+    void importFailedBatch(@TempDir Path dir) throws IOException {
+        final Path file = dir.resolve("person.ndjson");
+        Files.write(file, Arrays.asList("{\"id\":1}", "{\"id\":2}", "{\"id\":3}", "{\"id\":1}"), StandardCharsets.UTF_8);
+        try (final Surreal surreal = new Surreal()) {
+            surreal.connect("memory").useNs("test_ns").useDb("test_db");
+            final SurrealException e = assertThrows(SurrealException.class, () -> surreal.importFile(file, "person", ImportFormat.NDJSON, 2));
+            assertTrue(e.getMessage().contains("lines 3 to 4"), e.getMessage());
+            // The first batch is kept
+            assertEquals(2, count(surreal, "person"));
+        }
+    }
+
+    @Test
+    void importMissingFile(@TempDir Path dir) {
+        try (final Surreal surreal = new Surreal()) {
+            surreal.connect("memory").useNs("test_ns").useDb("test_db");
+            assertThrows(SurrealException.class, () -> surreal.importFile(dir.resolve("missing.csv"), "person", ImportFormat.CSV));
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.surrealdb.pojos.Person;
 import org.junit.jupiter.api.Test;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 import static com.surrealdb.Helpers.jaime;
@@ -74,5 +75,20 @@ public class InsertTests {
         }
     }
 
-
+    @Test
+    void insertLargeBatch() {
+        try (final Surreal surreal = new Surreal()) {
+            surreal.connect("memory").useNs("test_ns").useDb("test_db");
+            final Person[] persons = new Person[10_000];
+            for (int i = 0; i < persons.length; i++) {
+                // Values are bound, so SurrealQL syntax in strings is kept as is
+                persons[i] = new Person("It's $name " + i + " ]", Collections.singletonList("\"quoted\""), i, true, Collections.emptyList());
+            }
+            final List<Person> inserted = surreal.insert(Person.class, "person", persons);
+            assertEquals(persons.length, inserted.size());
+            assertEquals("It's $name 42 ]", inserted.get(42).name);
+            assertEquals("\"quoted\"", inserted.get(42).tags.get(0));
+            assertEquals(persons.length, surreal.query("SELECT count() FROM person GROUP ALL").take(0).getArray().get(0).getObject().get("count").getLong());
+        }
+    }
 }
@@ -0,0 +1,75 @@
+package com.surrealdb;
+
+import com.surrealdb.pojos.Person;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static com.surrealdb.Helpers.jaime;
+import static com.surrealdb.Helpers.tobie;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LiveTests {
+
+    private static <T> Notification<T> next(BlockingQueue<Notification<T>> queue) throws InterruptedException {
+        final Notification<T> notification = queue.poll(10, TimeUnit.SECONDS);
+        assertNotNull(notification);
+        return notification;
+    }
+
+    private static void liveChanges(Surreal surreal) throws InterruptedException {
+        final BlockingQueue<Notification<Person>> queue = new LinkedBlockingQueue<>();
+        try (final LiveSubscription subscription = surreal.live(Person.class, "person", queue::add)) {
+            final RecordId id = new RecordId("person", 1);
+            surreal.create(id, tobie);
+            surreal.update(id, UpType.CONTENT, jaime);
+            surreal.delete(id);
+            final Notification<Person> created = next(queue);
+            assertEquals(Notification.Action.CREATE, created.getAction());
+            assertEquals("Tobie", created.getData().name);
+            final Notification<Person> updated = next(queue);
+            assertEquals(Notification.Action.UPDATE, updated.getAction());
+            assertEquals("Jaime", updated.getData().name);
+            assertEquals(created.getQueryId(), updated.getQueryId());
+            assertEquals(Notification.Action.DELETE, next(queue).getAction());
+        }
+        // No more notifications once the subscription is closed
+        surreal.create(new RecordId("person", 2), tobie);
+        assertNull(queue.poll(500, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void liveMemory() throws InterruptedException {
+        try (final Surreal surreal = new Surreal()) {
+            surreal.connect("memory").useNs("test_ns").useDb("test_db");
+            liveChanges(surreal);
+        }
+    }
+
+    @Test
+    void liveSurrealKV() throws IOException, InterruptedException {
+        final Path tempDir = Files.createTempDirectory("surrealkv");
+        try (final Surreal surreal = new Surreal()) {
+            surreal.connect("surrealkv://" + tempDir.toAbsolutePath()).useNs("test_ns").useDb("test_db");
+            liveChanges(surreal);
+        }
+    }
+
+    @Test
+    void liveValues() throws InterruptedException {
+        try (final Surreal surreal = new Surreal()) {
+            surreal.connect("memory").useNs("test_ns").useDb("test_db");
+            final BlockingQueue<Notification<Value>> queue = new LinkedBlockingQueue<>();
+            try (final LiveSubscription ignored = surreal.live("person", queue::add)) {
+                surreal.query("CREATE person:1 SET name = 'Tobie'");
+                final Notification<Value> created = next(queue);
+                assertEquals("{ id: person:1, name: 'Tobie' }", created.getData().toString());
+            }
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.surrealdb;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ObjectTests {
+
+    private static com.surrealdb.Object object(Surreal surreal, String sql) {
+        return surreal.query("RETURN " + sql).take(0).getObject();
+    }
+
+    @Test
+    void keys() {
+        try (final Surreal surreal = new Surreal()) {
+            surreal.connect("memory").useNs("test_ns").useDb("test_db");
+            assertArrayEquals(new String[]{"a", "b", "c"}, object(surreal, "{ c: 3, a: 1, b: 2 }").keys());
+            assertArrayEquals(new String[0], object(surreal, "{}").keys());
+        }
+    }
+
+    @Test
+    void toMap() {
+        try (final Surreal surreal = new Surreal()) {
+            surreal.connect("memory").useNs("test_ns").useDb("test_db");
+            final Map<String, Value> map = object(surreal, "{ name: 'Tobie', age: 42, tags: ['a'] }").toMap();
+            assertEquals(Arrays.asList("age", "name", "tags"), new ArrayList<>(map.keySet()));
+            assertEquals(42, map.get("age").getLong());
+            assertEquals("Tobie", map.get("name").getString());
+            assertEquals(1, map.get("tags").getArray().len());
+        }
+    }
+
+    @Test
+    void wideObject() {
+        try (final Surreal surreal = new Surreal()) {
+            surreal.connect("memory").useNs("test_ns").useDb("test_db");
+            final com.surrealdb.Object object = object(surreal,
+                "object::from_entries((0..100).map(|$i| ['f' + <string> $i, $i]))");
+            assertEquals(100, object.toMap().size());
+            final List<String> keys = new ArrayList<>();
+            final long[] sum = {0};
+            object.forEach((key, value) -> {
+                keys.add(key);
+                sum[0] += value.getLong();
+            });
+            assertEquals(Arrays.asList(object.keys()), keys);
+            assertEquals(4950, sum[0]);
+        }
+    }
+
+    @Test
+    void nestedNavigation() {
+        try (final Surreal surreal = new Surreal()) {
+            surreal.connect("memory").useNs("test_ns").useDb("test_db");
+            final com.surrealdb.Object root = object(surreal,
+                "{ a: { b: [{ c: 1 }, { c: 2 }], d: 'x' }, e: (0..1000).map(|$i| { n: $i }) }");
+            final com.surrealdb.Object a = root.get("a").getObject();
+            final Array b = a.get("b").getArray();
+            assertEquals(2, b.get(1).getObject().get("c").getLong());
+            assertTrue(b.get(5).isNone());
+            assertTrue(a.get("missing").isNone());
+            long sum = 0;
+            for (final Value v : root.get("e").getArray()) {
+                sum += v.getObject().get("n").getLong();
+            }
+            assertEquals(499_500, sum);
+            final List<String> keys = new ArrayList<>();
+            for (final Entry entry : a) {
+                keys.add(entry.getKey());
+            }
+            assertEquals(Arrays.asList("b", "d"), keys);
+            assertEquals("x", a.toMap().get("d").getString());
+            // Values reached through different paths compare by content
+            assertEquals(b.get(0), root.get("a").getObject().get("b").getArray().get(0));
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.surrealdb;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PreparedQueryTests {
+
+    @Test
+    void executeManyTimes() {
+        try (final Surreal surreal = new Surreal()) {
+            surreal.connect("memory").useNs("test_ns").useDb("test_db");
+            final PreparedQuery create = surreal.prepare("CREATE type::thing('person', $id) SET name = $name");
+            for (int i = 0; i < 100; i++) {
+                final Map<String, java.lang.Object> params = new HashMap<>();
+                params.put("id", i);
+                params.put("name", "Person " + i);
+                create.execute(params);
+            }
+            final PreparedQuery select = surreal.prepare("SELECT * FROM person WHERE name = $name");
+            final Response response = select.execute(Collections.singletonMap("name", "Person 42"));
+            final Array rows = response.take(0).getArray();
+            assertEquals(1, rows.len());
+            assertEquals(new RecordId("person", 42), rows.get(0).getObject().get("id").getThing());
+            assertEquals(100, surreal.prepare("SELECT * FROM person").execute().take(0).getArray().len());
+        }
+    }
+
+    @Test
+    void executeAsync() {
+        try (final Surreal surreal = new Surreal()) {
+            surreal.connect("memory").useNs("test_ns").useDb("test_db");
+            final PreparedQuery query = surreal.prepare("RETURN $value * 2");
+            final List<CompletableFuture<Response>> futures = new ArrayList<>();
+            for (int i = 0; i < 50; i++) {
+                futures.add(query.executeAsync(Collections.singletonMap("value", i)));
+            }
+            for (int i = 0; i < 50; i++) {
+                assertEquals(i * 2, futures.get(i).join().take(0).getLong());
+            }
+        }
+    }
+
+    @Test
+    void executeWithTimeout() {
+        try (final Surreal surreal = new Surreal()) {
+            surreal.connect("memory").useNs("test_ns").useDb("test_db");
+            surreal.timeout(java.time.Duration.ofMillis(100));
+            final PreparedQuery query = surreal.prepare("SLEEP 5s");
+            assertThrows(SurrealTimeoutException.class, query::execute);
+        }
+    }
+
+    @Test
+    void sameTextIsShared() {
+        try (final Surreal surreal = new Surreal()) {
+            surreal.connect("memory").useNs("test_ns").useDb("test_db");
+            // A text no other test prepares
+            final String sql = "RETURN 'sameTextIsShared'";
+            final long parsed = PreparedQuery.parseCount();
+            final PreparedQuery q1 = surreal.prepare(sql);
+            assertEquals(parsed + 1, PreparedQuery.parseCount());
+            // The second preparation is a cache hit
+            final PreparedQuery q2 = surreal.prepare(sql);
+            assertEquals(parsed + 1, PreparedQuery.parseCount());
+            assertEquals(sql, q1.getSql());
+            assertEquals("sameTextIsShared", q1.execute().take(0).getString());
+            assertEquals("sameTextIsShared", q2.execute().take(0).getString());
+        }
+    }
+
+    @Test
+    void parseErrorOnPrepare() {
+        try (final Surreal surreal = new Surreal()) {
+            surreal.connect("memory").useNs("test_ns").useDb("test_db");
+            assertThrows(SurrealException.class, () -> surreal.prepare("SELEC * FROM person"));
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.surrealdb;
+
+import com.surrealdb.pojos.Partial;
+import com.surrealdb.pojos.PersonSummary;
+import com.surrealdb.pojos.Post;
+import org.junit.jupiter.api.Test;
+
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ProjectionTests {
+
+    public static class Empty {
+    }
+
+    public static class Measure {
+        public String name;
+        public long value;
+        public String unit;
+    }
+
+    @Test
+    void fieldsOfClass() {
+        final Projection projection = Projection.of(PersonSummary.class);
+        assertEquals("`id`, `name`", projection.fields);
+        assertNull(projection.fetch);
+        assertSame(projection, Projection.of(PersonSummary.class));
+        assertSame(projection, projection.withId());
+    }
+
+    @Test
+    void nestedFieldsAreFetched() {
+        final Projection projection = Projection.of(Post.class);
+        assertEquals("`title`, `author`, `reviewers`, `cached`", projection.fields);
+        assertEquals(" FETCH `author`, `reviewers`", projection.fetchClause());
+        assertEquals("`id`, `title`, `author`, `reviewers`, `cached`", projection.withId().fields);
+        // Value fields hold anything, they are not fetched
+        assertEquals("", Projection.of(Partial.class).fetchClause());
+    }
+
+    @Test
+    void classWithoutFields() {
+        assertSame(Projection.ALL, Projection.of(Empty.class));
+    }
+
+    @Test
+    void typedSelectOnlyTransfersFields() {
+        try (final Surreal surreal = new Surreal()) {
+            surreal.connect("memory").useNs("test_ns").useDb("test_db");
+            surreal.query("CREATE person:1 SET name = 'Tobie', bio = string::repeat('x', 10000), tags = ['a', 'b']");
+            final List<PersonSummary> persons = SelectTests.toList(surreal.select(PersonSummary.class, "person"), false);
+            assertEquals(1, persons.size());
+            assertEquals("Tobie", persons.get(0).name);
+            assertEquals(new RecordId("person", 1), persons.get(0).id);
+            try (final Scan<PersonSummary> scan = surreal.scan(PersonSummary.class, "person")) {
+                assertEquals("Tobie", scan.next().name);
+            }
+        }
+    }
+
+    @Test
+    void typedSelectWithKeywordAndMissingFields() {
+        try (final Surreal surreal = new Surreal()) {
+            surreal.connect("memory").useNs("test_ns").useDb("test_db");
+            surreal.query("CREATE measure:1 SET name = 'height', value = 42");
+            final Iterator<Measure> measures = surreal.select(Measure.class, "measure");
+            final Measure measure = measures.next();
+            assertFalse(measures.hasNext());
+            assertEquals("height", measure.name);
+            assertEquals(42, measure.value);
+            // The unit is missing from the document, the field keeps its default
+            assertNull(measure.unit);
+        }
+    }
+
+    @Test
+    void typedSelectFetchesLinks() {
+        try (final Surreal surreal = new Surreal()) {
+            surreal.connect("memory").useNs("test_ns").useDb("test_db");
+            surreal.query("CREATE name:1 SET first = 'Tobie', last = 'Morgan Hitchcock';" +
+                "CREATE name:2 SET first = 'Jaime', last = 'Morgan Hitchcock';" +
+                "CREATE post:1 SET title = 'Hello', author = name:1, reviewers = [name:2], views = 42, cached = 'yes'");
+            final Iterator<Post> posts = surreal.select(Post.class, "post");
+            final Post post = posts.next();
+            assertFalse(posts.hasNext());
+            assertEquals("Hello", post.title);
+            // Transient fields are filled as with SELECT *
+            assertEquals("yes", post.cached);
+            assertEquals("Tobie", post.author.first);
+            assertEquals(1, post.reviewers.size());
+            assertEquals("Jaime", post.reviewers.get(0).first);
+            // Untyped selects are unchanged
+            final Value value = surreal.select("post").next();
+            assertTrue(value.getObject().get("author").isThing());
+            assertEquals(42, value.getObject().get("views").getLong());
+        }
+    }
+}
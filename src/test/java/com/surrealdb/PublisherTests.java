@@ -0,0 +1,126 @@
+package com.surrealdb;
+
+import com.surrealdb.pojos.Person;
+import com.surrealdb.reactive.Publisher;
+import com.surrealdb.reactive.Subscriber;
+import com.surrealdb.reactive.Subscription;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static com.surrealdb.Helpers.tobie;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PublisherTests {
+
+    /**
+     * Requests the given number of elements each time the previous batch has been received.
+     */
+    static class CollectingSubscriber<T> implements Subscriber<T> {
+
+        final List<T> items = new CopyOnWriteArrayList<>();
+        final CompletableFuture<List<T>> done = new CompletableFuture<>();
+        private final long batch;
+        private Subscription subscription;
+        private long received;
+
+        CollectingSubscriber(long batch) {
+            this.batch = batch;
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(batch);
+        }
+
+        @Override
+        public void onNext(T item) {
+            items.add(item);
+            if (++received % batch == 0) {
+                subscription.request(batch);
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            done.completeExceptionally(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            done.complete(items);
+        }
+    }
+
+    private static void createPersons(Surreal surreal, int count) {
+        for (int i = 0; i < count; i++) {
+            surreal.create(new RecordId("person", i), tobie);
+        }
+    }
+
+    @Test
+    void selectPublisher() throws Exception {
+        try (final Surreal surreal = new Surreal()) {
+            surreal.connect("memory").useNs("test_ns").useDb("test_db");
+            createPersons(surreal, 25);
+            final CollectingSubscriber<Person> subscriber = new CollectingSubscriber<>(3);
+            surreal.selectPublisher(Person.class, "person", 10).subscribe(subscriber);
+            final List<Person> persons = subscriber.done.get(10, TimeUnit.SECONDS);
+            assertEquals(25, persons.size());
+            for (int i = 0; i < 25; i++) {
+                assertEquals(new RecordId("person", i), persons.get(i).id);
+            }
+        }
+    }
+
+    @Test
+    void selectPublisherEmptyTable() throws Exception {
+        try (final Surreal surreal = new Surreal()) {
+            surreal.connect("memory").useNs("test_ns").useDb("test_db");
+            final CollectingSubscriber<Value> subscriber = new CollectingSubscriber<>(Long.MAX_VALUE);
+            surreal.selectPublisher("person").subscribe(subscriber);
+            assertTrue(subscriber.done.get(10, TimeUnit.SECONDS).isEmpty());
+        }
+    }
+
+    @Test
+    void selectPublisherHonorsDemand() throws Exception {
+        try (final Surreal surreal = new Surreal()) {
+            surreal.connect("memory").useNs("test_ns").useDb("test_db");
+            createPersons(surreal, 10);
+            final CollectingSubscriber<Value> subscriber = new CollectingSubscriber<Value>(4) {
+                @Override
+                public void onNext(Value item) {
+                    // Never request more than the initial batch
+                    items.add(item);
+                }
+            };
+            surreal.selectPublisher("person", 3).subscribe(subscriber);
+            Thread.sleep(500);
+            assertEquals(4, subscriber.items.size());
+            assertFalse(subscriber.done.isDone());
+        }
+    }
+
+    @Test
+    void responsePublisher() throws Exception {
+        try (final Surreal surreal = new Surreal()) {
+            surreal.connect("memory").useNs("test_ns").useDb("test_db");
+            createPersons(surreal, 5);
+            final Response response = surreal.query("RETURN 1; SELECT * FROM person;");
+            final Publisher<Person> publisher = response.publisher(Person.class, 1);
+            final CollectingSubscriber<Person> subscriber = new CollectingSubscriber<>(2);
+            publisher.subscribe(subscriber);
+            assertEquals(5, subscriber.done.get(10, TimeUnit.SECONDS).size());
+            // The rows can only be published once
+            final CollectingSubscriber<Person> second = new CollectingSubscriber<>(2);
+            publisher.subscribe(second);
+            final Exception e = assertThrows(Exception.class, () -> second.done.get(10, TimeUnit.SECONDS));
+            assertInstanceOf(IllegalStateException.class, e.getCause());
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.surrealdb;
+
+import com.surrealdb.pojos.Person;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static com.surrealdb.Helpers.jaime;
+import static com.surrealdb.Helpers.tobie;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class QueryBatchTests {
+
+    @Test
+    void rename() {
+        assertEquals("SELECT * FROM person WHERE name = $b0_name AND age > $age",
+            QueryBatch.rename("SELECT * FROM person WHERE name = $name AND age > $age", Collections.singletonList("name"), "b0_"));
+        // Strings, quoted identifiers and comments are left untouched
+        assertEquals("RETURN [$b1_name, '$name', \"$name\", `$name`, $names] -- $name",
+            QueryBatch.rename("RETURN [$name, '$name', \"$name\", `$name`, $names] -- $name", Arrays.asList("name"), "b1_"));
+        assertEquals("RETURN 'it\\'s $name' + $b2_name /* $name */",
+            QueryBatch.rename("RETURN 'it\\'s $name' + $name /* $name */", Arrays.asList("name"), "b2_"));
+    }
+
+    @Test
+    void batch() {
+        try (final Surreal surreal = new Surreal()) {
+            surreal.connect("memory").useNs("test_ns").useDb("test_db");
+            surreal.create(new RecordId("person", 1), tobie);
+            surreal.create(new RecordId("person", 2), jaime);
+            final Map<String, java.lang.Object> both = new HashMap<>();
+            both.put("first", "Tobie");
+            both.put("second", "Jaime");
+            final QueryBatch batch = new QueryBatch()
+                .add("SELECT * FROM ONLY person:1 WHERE name = $name;", Collections.singletonMap("name", "Tobie"))
+                .add("SELECT * FROM ONLY person:2 WHERE name = $name", Collections.singletonMap("name", "Jaime"))
+                .add("RETURN [$first, $second]", both)
+                .add("SELECT count() FROM person GROUP ALL");
+            assertEquals(4, batch.size());
+            final Response response = surreal.query(batch);
+            assertEquals(4, response.size());
+            assertEquals("Tobie", response.take(Person.class, 0).name);
+            assertEquals("Jaime", response.take(Person.class, 1).name);
+            assertEquals("['Tobie', 'Jaime']", response.take(2).toString());
+            assertEquals("[{ count: 2 }]", response.take(3).toString());
+        }
+    }
+
+    @Test
+    void batchAsyncInSession() {
+        try (final Surreal surreal = new Surreal()) {
+            surreal.connect("memory");
+            final QueryBatch batch = new QueryBatch()
+                .add("RETURN $value", Collections.singletonMap("value", 1))
+                .add("RETURN $value", Collections.singletonMap("value", 2));
+            final Response response = surreal.session("test_ns", "test_db").queryAsync(batch).join();
+            assertEquals(2, response.size());
+            assertEquals(1, response.take(0).getLong());
+            assertEquals(2, response.take(1).getLong());
+        }
+    }
+
+    @Test
+    void trailingComment() {
+        try (final Surreal surreal = new Surreal()) {
+            surreal.connect("memory").useNs("test_ns").useDb("test_db");
+            final QueryBatch batch = new QueryBatch()
+                .add("RETURN $value -- the first value", Collections.singletonMap("value", 1))
+                .add("RETURN 2 # the second value")
+                .add("RETURN 3");
+            final Response response = surreal.query(batch);
+            assertEquals(3, response.size());
+            assertEquals(1, response.take(0).getLong());
+            assertEquals(2, response.take(1).getLong());
+            assertEquals(3, response.take(2).getLong());
+        }
+    }
+
+    @Test
+    void emptyBatch() {
+        try (final Surreal surreal = new Surreal()) {
+            surreal.connect("memory");
+            assertThrows(IllegalArgumentException.class, () -> surreal.query(new QueryBatch()));
+        }
+    }
+}
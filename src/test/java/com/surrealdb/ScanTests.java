@@ -0,0 +1,94 @@
+package com.surrealdb;
+
+import com.surrealdb.pojos.Person;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ScanTests {
+
+    private static void createPersons(Surreal surreal, int count) {
+        surreal.query("FOR $i IN 0.." + count + " { CREATE type::thing('person', $i) SET name = 'Person ' + <string> $i, category = $i, active = $i % 2 = 0 }");
+    }
+
+    @Test
+    void scanValues() {
+        try (final Surreal surreal = new Surreal()) {
+            surreal.connect("memory").useNs("test_ns").useDb("test_db");
+            createPersons(surreal, 2_500);
+            final List<Long> ids = new ArrayList<>();
+            try (final Scan<Value> scan = surreal.scan("person", 1000)) {
+                while (scan.hasNext()) {
+                    ids.add(scan.next().getObject().get("id").getThing().getId().getLong());
+                }
+                assertThrows(NoSuchElementException.class, scan::next);
+            }
+            assertEquals(2_500, ids.size());
+            // Record id order, without duplicates across the pages
+            for (int i = 0; i < ids.size(); i++) {
+                assertEquals(i, (long) ids.get(i));
+            }
+        }
+    }
+
+    @Test
+    void scanStream() {
+        try (final Surreal surreal = new Surreal()) {
+            surreal.connect("memory").useNs("test_ns").useDb("test_db");
+            createPersons(surreal, 1_000);
+            try (final Stream<Person> persons = surreal.scan(Person.class, "person", 100).stream()) {
+                final List<Person> active = persons.filter(p -> p.active).collect(Collectors.toList());
+                assertEquals(500, active.size());
+                assertEquals("Person 0", active.get(0).name);
+            }
+        }
+    }
+
+    @Test
+    void scanExactPages() {
+        try (final Surreal surreal = new Surreal()) {
+            surreal.connect("memory").useNs("test_ns").useDb("test_db");
+            createPersons(surreal, 200);
+            try (final Stream<Value> values = surreal.scan("person", 100).stream()) {
+                assertEquals(200, values.count());
+            }
+        }
+    }
+
+    @Test
+    void scanEmptyTable() {
+        try (final Surreal surreal = new Surreal()) {
+            surreal.connect("memory").useNs("test_ns").useDb("test_db");
+            try (final Scan<Person> scan = surreal.scan(Person.class, "person")) {
+                assertFalse(scan.hasNext());
+            }
+        }
+    }
+
+    @Test
+    void scanClosedEarly() {
+        try (final Surreal surreal = new Surreal()) {
+            surreal.connect("memory").useNs("test_ns").useDb("test_db");
+            createPersons(surreal, 500);
+            final Scan<Value> scan = surreal.scan("person", 10);
+            assertTrue(scan.hasNext());
+            scan.next();
+            scan.close();
+            assertFalse(scan.hasNext());
+        }
+    }
+
+    @Test
+    void scanInvalidPageSize() {
+        try (final Surreal surreal = new Surreal()) {
+            surreal.connect("memory").useNs("test_ns").useDb("test_db");
+            assertThrows(IllegalArgumentException.class, () -> surreal.scan("person", 0));
+        }
+    }
+}
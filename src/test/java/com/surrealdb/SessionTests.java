@@ -0,0 +1,58 @@
+package com.surrealdb;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SessionTests {
+
+    @Test
+    void sessionsAreIsolated() {
+        try (final Surreal surreal = new Surreal()) {
+            surreal.connect("memory").useNs("test_ns").useDb("test_db");
+            final SurrealSession tenant1 = surreal.session("tenant", "one");
+            final SurrealSession tenant2 = surreal.session("tenant", "two");
+            tenant1.query("CREATE person:1 SET name = 'Tobie'");
+            tenant2.query("CREATE person:1 SET name = 'Jaime'");
+            final Response response = tenant1.query("SELECT name FROM person:1");
+            assertEquals(1, response.size());
+            assertEquals("[{ name: 'Tobie' }]", response.take(0).toString());
+            assertEquals("[{ name: 'Jaime' }]", tenant2.query("SELECT name FROM person:1").take(0).toString());
+            // The namespace and database of the instance are unchanged
+            assertEquals("[]", surreal.query("SELECT * FROM person").take(0).toString());
+        }
+    }
+
+    @Test
+    void sessionQueryBind() {
+        try (final Surreal surreal = new Surreal()) {
+            surreal.connect("memory");
+            final SurrealSession session = surreal.session("weird ns", "db`1");
+            assertEquals("weird ns", session.getNamespace());
+            final Response response = session.queryBind("RETURN $name; RETURN session::db()", Collections.singletonMap("name", "Tobie"));
+            assertEquals(2, response.size());
+            assertEquals("Tobie", response.take(0).getString());
+            assertEquals("db`1", response.take(1).getString());
+        }
+    }
+
+    @Test
+    void concurrentSessions() {
+        try (final Surreal surreal = new Surreal()) {
+            surreal.connect("memory");
+            final List<CompletableFuture<Response>> futures = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                final SurrealSession session = surreal.session("tenant", "db" + i);
+                futures.add(session.queryAsync("CREATE counter:1 SET value = " + i + "; SELECT VALUE value FROM counter:1;"));
+            }
+            for (int i = 0; i < 20; i++) {
+                assertEquals("[" + i + "]", futures.get(i).join().take(1).toString());
+            }
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.surrealdb;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SurrealConfigTests {
+
+    @Test
+    void invalidSettings() {
+        assertThrows(IllegalArgumentException.class, () -> new SurrealConfig().workerThreads(0));
+        assertThrows(IllegalArgumentException.class, () -> new SurrealConfig().maxBlockingThreads(-1));
+        assertThrows(IllegalArgumentException.class, () -> new SurrealConfig().threadStackSize(0));
+        assertThrows(NullPointerException.class, () -> new SurrealConfig().threadName(null));
+    }
+
+    @Test
+    void reapplyDefaultConfig() {
+        // The tests share the runtime, which is started with the default configuration
+        try (final Surreal surreal = new Surreal(new SurrealConfig())) {
+            surreal.connect("memory").useNs("test_ns").useDb("test_db");
+            assertEquals(1, surreal.query("RETURN 1").take(0).getLong());
+        }
+        new SurrealConfig().apply();
+    }
+
+    @Test
+    void configureStartedRuntime() {
+        try (final Surreal surreal = new Surreal()) {
+            surreal.connect("memory");
+        }
+        final SurrealConfig config = new SurrealConfig().workerThreads(1).threadName("surrealdb-test");
+        assertThrows(SurrealException.class, config::apply);
+        assertThrows(SurrealException.class, () -> new Surreal(config));
+    }
+}
@@ -0,0 +1,80 @@
+package com.surrealdb;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TimeoutTests {
+
+    @Test
+    void queryTimeout() {
+        try (final Surreal surreal = new Surreal()) {
+            surreal.connect("memory").useNs("test_ns").useDb("test_db");
+            final long start = System.nanoTime();
+            assertThrows(SurrealTimeoutException.class, () -> surreal.query("SLEEP 10s", Duration.ofMillis(100)));
+            assertTrue(Duration.ofNanos(System.nanoTime() - start).compareTo(Duration.ofSeconds(5)) < 0);
+            // The connection is still usable
+            assertEquals(1, surreal.query("RETURN 1", Duration.ofSeconds(10)).take(0).getLong());
+            assertEquals(2, surreal.queryBind("RETURN $v", Collections.singletonMap("v", 2), Duration.ofSeconds(10)).take(0).getLong());
+        }
+    }
+
+    @Test
+    void defaultTimeout() {
+        try (final Surreal surreal = new Surreal()) {
+            surreal.connect("memory").useNs("test_ns").useDb("test_db").timeout(Duration.ofMillis(100));
+            assertThrows(SurrealTimeoutException.class, () -> surreal.query("SLEEP 10s"));
+            assertEquals(1, surreal.query("RETURN 1").take(0).getLong());
+            surreal.timeout(null);
+            assertEquals(1, surreal.query("SLEEP 200ms; RETURN 1").take(1).getLong());
+        }
+    }
+
+    @Test
+    void invalidTimeout() {
+        try (final Surreal surreal = new Surreal()) {
+            assertThrows(IllegalArgumentException.class, () -> surreal.timeout(Duration.ZERO));
+            assertThrows(IllegalArgumentException.class, () -> surreal.query("RETURN 1", Duration.ofSeconds(-1)));
+        }
+    }
+
+    @Test
+    void interrupt() throws InterruptedException {
+        try (final Surreal surreal = new Surreal()) {
+            surreal.connect("memory").useNs("test_ns").useDb("test_db").timeout(Duration.ofSeconds(30));
+            final AtomicReference<Throwable> error = new AtomicReference<>();
+            final AtomicReference<Boolean> interrupted = new AtomicReference<>();
+            final Thread thread = new Thread(() -> {
+                try {
+                    surreal.query("SLEEP 10s");
+                } catch (Throwable e) {
+                    error.set(e);
+                    interrupted.set(Thread.currentThread().isInterrupted());
+                }
+            });
+            thread.start();
+            Thread.sleep(200);
+            thread.interrupt();
+            thread.join(5000);
+            assertFalse(thread.isAlive());
+            assertInstanceOf(SurrealTimeoutException.class, error.get());
+            assertTrue(interrupted.get());
+        }
+    }
+
+    @Test
+    void cancelAsync() {
+        try (final Surreal surreal = new Surreal()) {
+            surreal.connect("memory").useNs("test_ns").useDb("test_db");
+            final CompletableFuture<Response> future = surreal.queryAsync("SLEEP 10s");
+            assertTrue(future.cancel(true));
+            assertTrue(future.isCancelled());
+            assertEquals(1, surreal.query("RETURN 1").take(0).getLong());
+        }
+    }
+}
@@ -80,4 +80,18 @@ public class TypeTests {
         }
     }
 
+
+    @Test
+    void testValueKind() {
+        try (final Surreal surreal = new Surreal()) {
+            surreal.connect("memory").useNs("test_ns").useDb("test_db");
+            final String[] sql = {"NONE", "NULL", "true", "1", "1.5", "1.5dec", "'a'", "1h", "d'2024-01-01T00:00:00Z'",
+                "u'0192ea3d-5f3d-7d3f-9e4f-6b1a1f1f1f1f'", "[1]", "{ a: 1 }", "(1.0, 2.0)", "<bytes> 'a'", "person:tobie",
+                "1..3"};
+            final ValueKind[] kinds = ValueKind.values();
+            for (int i = 0; i < sql.length; i++) {
+                assertEquals(kinds[i], surreal.query("RETURN " + sql[i]).take(0).getKind(), sql[i]);
+            }
+        }
+    }
 }
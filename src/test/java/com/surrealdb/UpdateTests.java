@@ -3,10 +3,15 @@ package com.surrealdb;
 import com.surrealdb.pojos.Person;
 import org.junit.jupiter.api.Test;
 
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 import static com.surrealdb.Helpers.*;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class UpdateTests {
 
@@ -130,4 +135,42 @@ public class UpdateTests {
         }
     }
 
+    @Test
+    void updateThingsValues() throws SurrealException {
+        try (final Surreal surreal = new Surreal()) {
+            // Starts an embedded in memory instance
+            surreal.connect("memory").useNs("test_ns").useDb("test_db");
+            final RecordId id1 = new RecordId("person", 1);
+            final RecordId id2 = new RecordId("person", 2);
+            surreal.create(id1, tobie);
+            surreal.create(id2, tobie);
+            // Each record gets its own content
+            final Map<RecordId, Person> contents = new LinkedHashMap<>();
+            contents.put(id1, jaime);
+            contents.put(id2, emmanuel);
+            // A missing record is not updated
+            contents.put(new RecordId("person", 3), jaime);
+            final List<Person> updated = surreal.update(Person.class, UpType.CONTENT, contents);
+            assertEquals(2, updated.size());
+            assertEquals(id1, updated.get(0).id);
+            assertEquals("Jaime", updated.get(0).name);
+            assertEquals("Emmanuel", updated.get(1).name);
+            assertEquals("Emmanuel", surreal.select(Person.class, id2).get().name);
+        }
+    }
+
+    @Test
+    void updateRecordIdsContentsIsAtomic() {
+        try (final Surreal surreal = new Surreal()) {
+            surreal.connect("memory").useNs("test_ns").useDb("test_db");
+            surreal.query("DEFINE TABLE item SCHEMAFULL; DEFINE FIELD value ON item TYPE int;" +
+                "CREATE item:1 SET value = 1; CREATE item:2 SET value = 2;");
+            final Map<RecordId, Map<String, java.lang.Object>> contents = new LinkedHashMap<>();
+            contents.put(new RecordId("item", 1), Collections.singletonMap("value", 10));
+            contents.put(new RecordId("item", 2), Collections.singletonMap("value", "bad"));
+            assertThrows(SurrealException.class, () -> surreal.update(UpType.CONTENT, contents));
+            // The first record is not changed either
+            assertEquals(1, surreal.select(new RecordId("item", 1)).get().getObject().get("value").getLong());
+        }
+    }
 }
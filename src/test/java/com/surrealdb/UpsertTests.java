@@ -4,6 +4,9 @@ import com.surrealdb.pojos.Person;
 import org.junit.jupiter.api.Test;
 
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 import static com.surrealdb.Helpers.*;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -106,4 +109,22 @@ public class UpsertTests {
         }
     }
 
+    @Test
+    void upsertThingsValues() throws SurrealException {
+        try (final Surreal surreal = new Surreal()) {
+            // Starts an embedded in memory instance
+            surreal.connect("memory").useNs("test_ns").useDb("test_db");
+            final RecordId id1 = new RecordId("person", 1);
+            final RecordId id2 = new RecordId("person", 2);
+            surreal.create(id1, tobie);
+            // Each record gets its own content, the missing one is created
+            final Map<RecordId, Person> contents = new LinkedHashMap<>();
+            contents.put(id1, jaime);
+            contents.put(id2, emmanuel);
+            final List<Value> upserted = surreal.upsert(UpType.CONTENT, contents);
+            assertEquals(2, upserted.size());
+            assertEquals("Jaime", upserted.get(0).get(Person.class).name);
+            assertEquals("Emmanuel", surreal.select(Person.class, id2).get().name);
+        }
+    }
 }
@@ -0,0 +1,12 @@
+package com.surrealdb.pojos;
+
+import com.surrealdb.RecordId;
+
+public class PersonSummary {
+
+    public RecordId id;
+    public String name;
+
+    public PersonSummary() {
+    }
+}
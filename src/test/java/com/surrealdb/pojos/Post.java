@@ -0,0 +1,14 @@
+package com.surrealdb.pojos;
+
+import java.util.List;
+
+public class Post {
+
+    public String title;
+    public Name author;
+    public List<Name> reviewers;
+    public transient String cached;
+
+    public Post() {
+    }
+}